@@ -0,0 +1,120 @@
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+// Точки входу для JMH. Класи гри лежать у пакеті за замовчуванням, а JMH
+// вимагає іменованого пакета, тому бенчмарки отримують ці об'єкти один раз
+// під час налаштування і далі викликають їх напряму через інтерфейси
+public final class BenchmarkFixtures {
+    private BenchmarkFixtures() {
+    }
+
+    // Взяття карти; спорожніла колода збирається заново (раз на 52 карти)
+    public static IntSupplier deckDraw() {
+        Deck deck = new Deck(new SimpleCardFactory());
+        return () -> {
+            try {
+                if (deck.remaining() == 0) deck.refill();
+                return deck.draw().getValue();
+            } catch (DeckEmptyException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    public static IntSupplier deckRefill() {
+        Deck deck = new Deck(new SimpleCardFactory());
+        return () -> {
+            deck.refill();
+            return deck.remaining();
+        };
+    }
+
+    public static IntSupplier deckShuffle() {
+        Deck deck = new Deck(new SimpleCardFactory());
+        return () -> {
+            deck.shuffle();
+            return deck.remaining();
+        };
+    }
+
+    // Рахунок уже зібраної руки
+    public static IntSupplier handScore(int handSize, int aces) {
+        Hand hand = buildHand(handSize, aces);
+        return hand::calculateScore;
+    }
+
+    // Збирання руки з нуля разом із підрахунком очок
+    public static IntSupplier handBuild(int handSize, int aces) {
+        Hand hand = new Hand();
+        ICard[] cards = buildHand(handSize, aces).getCards().toArray(new ICard[0]);
+        return () -> {
+            hand.clear();
+            for (ICard card : cards) hand.addCard(card);
+            return hand.calculateScore();
+        };
+    }
+
+    private static Hand buildHand(int handSize, int aces) {
+        if (aces > handSize) throw new IllegalArgumentException("Тузів більше, ніж карт у руці");
+        CardFactory factory = new SimpleCardFactory();
+        Hand hand = new Hand();
+        for (int i = 0; i < handSize; i++) {
+            Rank rank = i < aces ? Rank.ACE : Rank.TWO;
+            hand.addCard(factory.createCard(Suit.values()[i % Suit.values().length], rank));
+        }
+        return hand;
+    }
+
+    public static Supplier<Object> cardCreation(String style) {
+        CardFactory factory = style.equals("fancy") ? new FancyCardFactory() : new SimpleCardFactory();
+        Suit[] suits = Suit.values();
+        Rank[] ranks = Rank.values();
+        int[] position = {0};
+        return () -> {
+            int code = position[0]++ % CardCode.COUNT;
+            return factory.createCard(suits[code / CardCode.RANKS], ranks[code % CardCode.RANKS]);
+        };
+    }
+
+    // Повний раунд без консолі через GameManager; decks > 1 - шуз
+    public static IntSupplier headlessRound(int decks) {
+        CardFactory factory = new SimpleCardFactory();
+        RuleSet rules = RuleSet.DEFAULT.with(RuleSet.DECKS, decks);
+        GameManager game = new GameManager(Deck.create(factory, rules),
+                new Player("Бот", BasicStrategyGenerator.generate(rules)), rules);
+        return () -> {
+            try {
+                return game.playHeadlessRound().getOutcome().ordinal();
+            } catch (GameException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    // Раунд із текстовим журналом: рядки збираються, але нікуди не виводяться
+    public static IntSupplier formattedRound(String style) {
+        CardFactory factory = style.equals("fancy") ? new FancyCardFactory() : new SimpleCardFactory();
+        RuleSet rules = RuleSet.DEFAULT;
+        GameManager game = new GameManager(Deck.create(factory, rules),
+                new Player("Бот", BasicStrategyGenerator.generate(rules)), rules);
+        int[] written = {0};
+        game.addEventObserver(new GameEventFormatter(factory) {
+            @Override
+            protected void emit(String message) {
+                written[0] += message.length();
+            }
+
+            @Override
+            protected void emit(TextBuffer line) {
+                written[0] += line.length();
+            }
+        });
+        return () -> {
+            try {
+                return game.playHeadlessRound().getOutcome().ordinal() + written[0];
+            } catch (GameException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package bench;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Запуск: java -jar target/benchmarks.jar -prof gc
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BlackjackBenchmarks {
+
+    @State(Scope.Thread)
+    public static class DeckState {
+        IntSupplier draw;
+        IntSupplier refill;
+        IntSupplier shuffle;
+
+        @Setup
+        public void setup() {
+            draw = fixture("deckDraw");
+            refill = fixture("deckRefill");
+            shuffle = fixture("deckShuffle");
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class HandState {
+        @Param({"2", "3", "5", "8"})
+        int handSize;
+
+        @Param({"0", "1", "2"})
+        int aces;
+
+        IntSupplier score;
+        IntSupplier build;
+
+        @Setup
+        public void setup() {
+            int aceCount = Math.min(aces, handSize);
+            score = fixture("handScore", handSize, aceCount);
+            build = fixture("handBuild", handSize, aceCount);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FactoryState {
+        @Param({"simple", "fancy"})
+        String style;
+
+        Supplier<Object> create;
+
+        @Setup
+        public void setup() {
+            create = fixture("cardCreation", style);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RoundState {
+        @Param({"1", "6"})
+        int decks;
+
+        IntSupplier round;
+
+        @Setup
+        public void setup() {
+            round = fixture("headlessRound", decks);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FormatState {
+        @Param({"simple", "fancy"})
+        String style;
+
+        IntSupplier round;
+
+        @Setup
+        public void setup() {
+            round = fixture("formattedRound", style);
+        }
+    }
+
+    @Benchmark
+    public int deckDraw(DeckState state) {
+        return state.draw.getAsInt();
+    }
+
+    @Benchmark
+    public int deckRefill(DeckState state) {
+        return state.refill.getAsInt();
+    }
+
+    @Benchmark
+    public int deckShuffle(DeckState state) {
+        return state.shuffle.getAsInt();
+    }
+
+    @Benchmark
+    public int handCalculateScore(HandState state) {
+        return state.score.getAsInt();
+    }
+
+    @Benchmark
+    public int handBuildAndScore(HandState state) {
+        return state.build.getAsInt();
+    }
+
+    @Benchmark
+    public Object cardFactoryCreate(FactoryState state) {
+        return state.create.get();
+    }
+
+    @Benchmark
+    public int headlessRound(RoundState state) {
+        return state.round.getAsInt();
+    }
+
+    @Benchmark
+    public int formattedRound(FormatState state) {
+        return state.round.getAsInt();
+    }
+
+    // Класи гри в пакеті за замовчуванням недоступні звідси напряму,
+    // тому фікстури знаходяться рефлексією лише під час налаштування
+    @SuppressWarnings("unchecked")
+    static <T> T fixture(String name, Object... args) {
+        try {
+            Class<?> fixtures = Class.forName("BenchmarkFixtures");
+            for (Method method : fixtures.getMethods()) {
+                if (method.getName().equals(name) && method.getParameterCount() == args.length) {
+                    return (T) method.invoke(null, args);
+                }
+            }
+            throw new IllegalArgumentException("Немає фікстури " + name);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Не вдалося створити фікстуру " + name, e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Відтворювані перевірки, на які спираються заміри в комітах: детерміновані прогони
+// з фіксованим сідом, порівняння з еталоном і круговий перехід через двійкові формати.
+// Запуск: mvn compile, далі java -cp target/classes Checks [назва...]; код виходу 1, якщо хоч одна не пройшла
+public final class Checks {
+    interface Check {
+        // Друкує короткий підсумок і повертає false, якщо результат не збігся
+        boolean run() throws Exception;
+    }
+
+    private static final Map<String, Check> CHECKS = new LinkedHashMap<>();
+
+    static {
+        CHECKS.put("formatter", new FormatterCheck());
+        CHECKS.put("composition", new CompositionCheck());
+        CHECKS.put("snapshot", new SnapshotCheck());
+        CHECKS.put("journal", new JournalCheck());
+    }
+
+    private Checks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Iterable<String> names = args.length > 0 ? List.of(args) : CHECKS.keySet();
+        int failed = 0;
+        for (String name : names) {
+            Check check = CHECKS.get(name);
+            if (check == null) throw new IllegalArgumentException("Невідома перевірка: " + name + ", є " + CHECKS.keySet());
+            long startTime = System.nanoTime();
+            boolean passed = check.run();
+            System.out.println((passed ? "OK   " : "FAIL ") + name + " (" + (System.nanoTime() - startTime) / 1_000_000 + " мс)");
+            if (!passed) failed++;
+        }
+        if (failed > 0) System.exit(1);
+    }
+}
\ No newline at end of file
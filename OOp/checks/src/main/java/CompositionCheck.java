@@ -0,0 +1,77 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+// Розв'язувач за складом руки має відтворювати відомі відхилення від базової стратегії
+// (S17, DAS, пізня капітуляція) і не змінювати рішень там, де склад нічого не важить.
+// Таблиця також проходить круговий запис у двійковий формат без втрат
+final class CompositionCheck implements Checks.Check {
+    private static final SimpleCardFactory CARDS = new SimpleCardFactory();
+
+    // Колоди, карти гравця, відкрита карта дилера, рішення за складом (true - взяти)
+    private record Expected(int decks, int[] cards, int up, boolean hit) {
+    }
+
+    private static final Expected[] EXPECTED = {
+            // Відомі відхилення: 10-2 проти 4 бере карту, 16 з трьох і більше карт проти 10 зупиняється
+            new Expected(6, new int[]{10, 2}, 4, true),
+            new Expected(6, new int[]{4, 4, 4, 4}, 10, false),
+            new Expected(6, new int[]{7, 5, 4}, 10, false),
+            new Expected(1, new int[]{10, 2}, 4, true),
+            new Expected(1, new int[]{10, 3}, 2, true),
+            new Expected(1, new int[]{7, 5, 4}, 10, false),
+            // Рішення, що від складу не залежать
+            new Expected(6, new int[]{10, 6}, 10, true),
+            new Expected(6, new int[]{9, 7}, 10, true),
+            new Expected(6, new int[]{10, 7}, 10, false),
+            new Expected(6, new int[]{10, 2}, 6, false),
+            new Expected(6, new int[]{10, 3}, 2, false),
+            new Expected(1, new int[]{10, 6}, 10, true),
+    };
+
+    @Override
+    public boolean run() throws Exception {
+        boolean passed = true;
+        for (int decks : new int[]{6, 1}) {
+            RuleSet rules = RuleSet.DEFAULT.with(RuleSet.DECKS, decks);
+            BasicStrategy basic = BasicStrategyGenerator.generate(rules);
+            CompositionStrategy strategy = new CompositionSolver(rules, ForkJoinPool.commonPool()).solve(basic);
+            System.out.println("  " + decks + " кол.: складів " + strategy.size() + ", відхилень " + strategy.deviations());
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            strategy.writeBinary(bytes);
+            CompositionStrategy loaded = CompositionStrategy.readBinary(new ByteArrayInputStream(bytes.toByteArray()));
+            if (loaded.size() != strategy.size() || loaded.deviations() != strategy.deviations()) {
+                System.out.println("  " + decks + " кол.: таблиця змінилася після запису й читання");
+                passed = false;
+            }
+
+            for (Expected expected : EXPECTED) {
+                if (expected.decks() != decks) continue;
+                Hand hand = hand(expected.cards());
+                ICard up = card(expected.up());
+                for (CompositionStrategy table : new CompositionStrategy[]{strategy, loaded}) {
+                    if (table.shouldHit(hand, up) != expected.hit()) {
+                        System.out.println("  " + decks + " кол.: " + Arrays.toString(expected.cards()) + " проти " + expected.up()
+                                + " - очікувалося " + (expected.hit() ? "взяти" : "зупинитися"));
+                        passed = false;
+                    }
+                }
+            }
+        }
+        return passed;
+    }
+
+    private static Hand hand(int[] values) {
+        Hand hand = new Hand();
+        for (int value : values) hand.addCard(card(value));
+        return hand;
+    }
+
+    // Значення 2-10 або 11 для туза
+    private static ICard card(int value) {
+        Rank rank = value == 11 ? Rank.ACE : Rank.values()[value - 2];
+        return CARDS.createCard(Suit.SPADES, rank);
+    }
+}
\ No newline at end of file
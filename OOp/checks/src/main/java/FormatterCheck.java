@@ -0,0 +1,75 @@
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+// Текст гри після переходу на байтові фрагменти (TextBuffer, CardRenderer) має збігатися
+// з попереднім форматувальником байт у байт. Еталонні SHA-256 зняті з форматувальника
+// на рядках до цього переходу: 3000 раундів базової стратегії, правила за замовчуванням, сід 7
+final class FormatterCheck implements Checks.Check {
+    private static final int ROUNDS = 3000;
+    private static final long SEED = 7;
+    private static final String SIMPLE_SHA256 = "521bbf6c63d81c6777502a72003b2ed8e03de8ff8e999ca533ab6a9851ffcefb";
+    private static final String FANCY_SHA256 = "f93de2c3f4d623112a1382418b6bf158aedaed8703ce455c71ca96b3ac3fe84d";
+
+    @Override
+    public boolean run() throws Exception {
+        boolean passed = check("simple", new SimpleCardFactory(), SIMPLE_SHA256);
+        return check("fancy", new FancyCardFactory(), FANCY_SHA256) && passed;
+    }
+
+    private static boolean check(String style, CardFactory factory, String expected) throws Exception {
+        // Байтовий шлях ConsoleLogger і рядковий шлях спостерігача мають дати той самий текст
+        String bytes = consoleOutput(factory);
+        StringBuilder strings = new StringBuilder();
+        GameManager game = newGame(factory);
+        game.addEventObserver(GameEventFormatter.forObserver(message -> strings.append(message).append('\n'), factory));
+        playRounds(game);
+
+        String actual = sha256(bytes);
+        System.out.println("  " + style + ": " + bytes.length() + " символів, SHA-256 " + actual);
+        if (!bytes.contentEquals(strings)) {
+            System.out.println("  " + style + ": байтовий і рядковий шляхи розходяться");
+            return false;
+        }
+        if (!actual.equals(expected)) {
+            System.out.println("  " + style + ": очікувався SHA-256 " + expected);
+            return false;
+        }
+        return true;
+    }
+
+    private static String consoleOutput(CardFactory factory) throws Exception {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        try {
+            GameManager game = newGame(factory);
+            game.addObserver(new ConsoleLogger(factory));
+            playRounds(game);
+        } finally {
+            System.out.flush();
+            System.setOut(console);
+        }
+        return buffer.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+
+    private static GameManager newGame(CardFactory factory) {
+        RuleSet rules = RuleSet.DEFAULT;
+        Deck deck = Deck.create(factory, rules);
+        deck.setRandom(new SplittableRandom(SEED));
+        return new GameManager(deck, new Player("Гравець", BasicStrategyGenerator.generate(rules)), rules);
+    }
+
+    private static void playRounds(GameManager game) throws GameException {
+        for (int i = 0; i < ROUNDS; i++) {
+            game.playHeadlessRound();
+        }
+    }
+
+    private static String sha256(String text) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+// Раунди, записані в журнал, мають відтворитися JournalReplay без жодної розбіжності:
+// і відкриті карти, і закрита карта дилера беруться з запису, а не з колоди відтворення.
+// Малі сегменти змушують журнал кілька разів переходити на новий файл
+final class JournalCheck implements Checks.Check {
+    private static final int ROUNDS = 20_000;
+    private static final long SEGMENT_SIZE = 64L << 10;
+
+    @Override
+    public boolean run() throws Exception {
+        RuleSet rules = RuleSet.DEFAULT;
+        Path directory = Files.createTempDirectory("journal");
+        try {
+            try (RoundJournal journal = new RoundJournal(directory, SEGMENT_SIZE)) {
+                Deck deck = Deck.create(new SimpleCardFactory(), rules);
+                deck.setCounter(new CardCounter(CountingSystem.HI_LO));
+                deck.setRandom(new SplittableRandom(11));
+                GameManager game = new GameManager(deck, new Player("Гравець", BasicStrategyGenerator.generate(rules)), rules);
+                game.addEventObserver(journal);
+                for (int round = 0; round < ROUNDS; round++) game.playHeadlessRound();
+            }
+
+            JournalReplay replay = new JournalReplay(rules);
+            long records = JournalReader.forEach(directory, replay::replay);
+            System.out.println("  сегментів: " + RoundJournal.segments(directory).length + ", записів: " + records
+                    + ", розбіжностей: " + replay.getMismatches() + ", помилок: " + replay.getResult().getErrors());
+            return records == ROUNDS && replay.getMismatches() == 0;
+        } finally {
+            for (Path segment : RoundJournal.segments(directory)) Files.deleteIfExists(segment);
+            Files.deleteIfExists(directory);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Знімок стола посеред раунду, пропущений через двійковий формат і догравений resumeRound,
+// має дати той самий результат, баланс і рахунок карт, що й гра без зупинки.
+// Друга частина - CheckpointStore: після закриття й повторного відкриття файлу кожен стіл
+// відновлюється в останньому записаному стані, зокрема після кількох перемішувань шуза
+final class SnapshotCheck implements Checks.Check {
+    private static final int ROUNDS = 200_000;
+    private static final int STORE_TABLES = 50;
+    private static final int STORE_ROUNDS = 300;
+
+    private GameManager game;
+    private TableSnapshot captured;
+    private int decisions;
+
+    @Override
+    public boolean run() throws Exception {
+        boolean passed = resumeRounds();
+        return checkpointFile() && passed;
+    }
+
+    private boolean resumeRounds() throws GameException {
+        RuleSet rules = RuleSet.DEFAULT;
+        BasicStrategy basic = BasicStrategyGenerator.generate(rules);
+        // Кожне сьоме рішення знімок робиться ще до того, як гравець вирішить
+        MoveStrategy capturing = new MoveStrategy() {
+            @Override
+            public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+                return basic.shouldHit(hand, dealerVisibleCard);
+            }
+
+            @Override
+            public Action decide(DecisionContext context) {
+                if (captured == null && ++decisions % 7 == 0) captured = game.snapshot();
+                return basic.decide(context);
+            }
+        };
+        game = new GameManager(countedDeck(rules, 5), new Player("Гравець", capturing), rules);
+        game.setTableId(42);
+
+        int checked = 0;
+        int afterSplit = 0;
+        int mismatches = 0;
+        ByteBuffer buffer = ByteBuffer.allocate(TableSnapshot.maxSize(game.getDeck().size()));
+        for (int round = 0; round < ROUNDS; round++) {
+            captured = null;
+            RoundResult result = game.playHeadlessRound();
+            if (captured == null) continue;
+            long net = result.getNet();
+            long balance = game.getPlayer().getBankroll().getBalance();
+            int runningCount = game.getDeck().getCounter().getRunningCount();
+
+            // Знімок -> гра -> байти -> знімок -> інша гра
+            GameManager probe = new GameManager(countedDeck(rules, 0), new Player("Гравець", basic), rules);
+            probe.restore(captured);
+            TableSnapshot.write(probe, buffer.clear());
+            GameManager resumed = new GameManager(countedDeck(rules, 0), new Player("Гравець", basic), rules);
+            resumed.restore(TableSnapshot.read(buffer.flip()));
+            if (captured.getTurnHand() > 0) afterSplit++;
+
+            RoundResult again = resumed.resumeRound();
+            checked++;
+            if (again.getNet() != net || resumed.getPlayer().getBankroll().getBalance() != balance
+                    || resumed.getDeck().getCounter().getRunningCount() != runningCount || resumed.getTableId() != 42) {
+                mismatches++;
+            }
+        }
+        System.out.println("  відновлено посеред раунду: " + checked + ", з них після розділення: " + afterSplit
+                + ", розбіжностей: " + mismatches);
+        return checked > 0 && afterSplit > 0 && mismatches == 0;
+    }
+
+    private boolean checkpointFile() throws Exception {
+        RuleSet rules = RuleSet.DEFAULT;
+        BasicStrategy basic = BasicStrategyGenerator.generate(rules);
+        Path file = Files.createTempFile("checkpoints", ".bin");
+        try {
+            Map<Integer, GameManager> games = new HashMap<>();
+            // Після кожного раунду - примусовий запис, тож у файлі проходять і нові порядки колоди
+            try (CheckpointStore store = new CheckpointStore(file, rules.decks() * CardCode.COUNT, 1)) {
+                for (int id = 1; id <= STORE_TABLES; id++) {
+                    GameManager table = new GameManager(countedDeck(rules, id), new Player("Гравець", basic), rules);
+                    table.setTableId(id);
+                    table.setCheckpointStore(store);
+                    for (int round = 0; round < STORE_ROUNDS; round++) {
+                        table.playHeadlessRound();
+                        table.writeCheckpoint();
+                    }
+                    games.put(id, table);
+                }
+            }
+
+            int mismatches = 0;
+            try (CheckpointStore store = new CheckpointStore(file, rules.decks() * CardCode.COUNT, 1)) {
+                for (TableSnapshot snapshot : store.restored()) {
+                    GameManager original = games.remove(snapshot.getTableId());
+                    GameManager restored = new GameManager(countedDeck(rules, 0), new Player("Гравець", basic), rules);
+                    restored.restore(snapshot);
+                    if (original == null || !encode(original).equals(encode(restored))) mismatches++;
+                }
+            }
+            System.out.println("  файл контрольних точок: " + Files.size(file) + " байтів, столів не відновлено: "
+                    + games.size() + ", розбіжностей: " + mismatches);
+            return games.isEmpty() && mismatches == 0;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static Deck countedDeck(RuleSet rules, long seed) {
+        Deck deck = Deck.create(new SimpleCardFactory(), rules);
+        deck.setCounter(new CardCounter(CountingSystem.HI_LO));
+        deck.setRandom(new SplittableRandom(seed));
+        return deck;
+    }
+
+    private static ByteBuffer encode(GameManager game) {
+        ByteBuffer buffer = ByteBuffer.allocate(TableSnapshot.maxSize(game.getDeck().size()));
+        TableSnapshot.write(game, buffer);
+        return buffer.flip();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,3 @@
+public enum Action {
+    HIT, STAND, DOUBLE, SPLIT, SURRENDER
+}
\ No newline at end of file
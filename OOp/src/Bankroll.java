@@ -0,0 +1,86 @@
+// Банкрол і ставка учасника. Суми - long у копійках (GameConfig.MONEY_SCALE),
+// тож розрахунок раунду не створює об'єктів. Накопичує прибуток/збиток за всі раунди
+public class Bankroll {
+    private final long initialBalance;
+    private long balance;
+    private long bet;
+    private long lowestBalance;
+    private long rounds;
+    private long wagered;
+
+    public Bankroll() {
+        this(GameConfig.DEFAULT_BANKROLL, GameConfig.DEFAULT_BET);
+    }
+
+    public Bankroll(long balance, long bet) {
+        if (bet <= 0) throw new IllegalArgumentException("Ставка має бути додатною");
+        this.initialBalance = balance;
+        this.balance = balance;
+        this.lowestBalance = balance;
+        this.bet = bet;
+    }
+
+    // Стан зі знімка стола (TableSnapshot)
+    static Bankroll restore(long initialBalance, long balance, long bet, long lowestBalance, long rounds, long wagered) {
+        Bankroll bankroll = new Bankroll(initialBalance, bet);
+        bankroll.balance = balance;
+        bankroll.lowestBalance = lowestBalance;
+        bankroll.rounds = rounds;
+        bankroll.wagered = wagered;
+        return bankroll;
+    }
+
+    // net - виграш (або програш зі знаком мінус) за раунд, wagered - усі ставки раунду
+    public void settle(long net, long wagered) {
+        balance += net;
+        this.wagered += wagered;
+        rounds++;
+        if (balance < lowestBalance) lowestBalance = balance;
+    }
+
+    public long getBet() {
+        return bet;
+    }
+
+    public void setBet(long bet) {
+        if (bet <= 0) throw new IllegalArgumentException("Ставка має бути додатною");
+        this.bet = bet;
+    }
+
+    public long getBalance() {
+        return balance;
+    }
+
+    public long getInitialBalance() {
+        return initialBalance;
+    }
+
+    public long getProfit() {
+        return balance - initialBalance;
+    }
+
+    // Найнижчий баланс за всю гру; від'ємний означає, що банкрол був би програний
+    public long getLowestBalance() {
+        return lowestBalance;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getWagered() {
+        return wagered;
+    }
+
+    public static String format(long amount) {
+        long abs = Math.abs(amount);
+        long fraction = abs % GameConfig.MONEY_SCALE;
+        return (amount < 0 ? "-" : "") + abs / GameConfig.MONEY_SCALE + "." + (fraction < 10 ? "0" : "") + fraction;
+    }
+
+    @Override
+    public String toString() {
+        return "Баланс: " + format(balance) + " | Прибуток: " + format(getProfit()) +
+                " | Поставлено: " + format(wagered);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class BasicStrategy implements MoveStrategy {
+    public static final byte STAND = 0;
+    public static final byte HIT = 1;
+    // Подвоїти, а якщо не можна - взяти карту чи зупинитися
+    public static final byte DOUBLE_OR_HIT = 2;
+    public static final byte DOUBLE_OR_STAND = 3;
+    // Здатися, а якщо не можна - взяти карту чи зупинитися
+    public static final byte SURRENDER_OR_HIT = 4;
+    public static final byte SURRENDER_OR_STAND = 5;
+    public static final byte SPLIT = 1;
+
+    private static final String[] CODES = {"S", "H", "Dh", "Ds", "Rh", "Rs"};
+
+    // Таблиця [очки 0..21][м'яка/тверда][відкрита карта дилера 2..11]
+    private static final int UP_CARDS = 10;
+    public static final int TABLE_SIZE = (GameConfig.BLACKJACK_LIMIT + 1) * 2 * UP_CARDS;
+    // Таблиця пар [значення карти 2..11][відкрита карта дилера 2..11]: 1 - розділити
+    public static final int PAIR_TABLE_SIZE = 10 * UP_CARDS;
+
+    private static final int BINARY_MAGIC = 0x424A5354; // "BJST"
+
+    private final byte[] table;
+    private final byte[] pairs;
+
+    public BasicStrategy(byte[] table) {
+        this(table, new byte[PAIR_TABLE_SIZE]);
+    }
+
+    public BasicStrategy(byte[] table, byte[] pairs) {
+        if (table.length != TABLE_SIZE) {
+            throw new IllegalArgumentException("Невірний розмір таблиці стратегії: " + table.length);
+        }
+        if (pairs.length != PAIR_TABLE_SIZE) {
+            throw new IllegalArgumentException("Невірний розмір таблиці пар: " + pairs.length);
+        }
+        for (byte action : table) {
+            if (action < STAND || action > SURRENDER_OR_STAND) {
+                throw new IllegalArgumentException("Невідома дія в таблиці стратегії: " + action);
+            }
+        }
+        this.table = table.clone();
+        this.pairs = pairs.clone();
+    }
+
+    public static int index(int total, boolean soft, int dealerUpValue) {
+        return ((total << 1) | (soft ? 1 : 0)) * UP_CARDS + dealerUpValue - 2;
+    }
+
+    public static int pairIndex(int pairValue, int dealerUpValue) {
+        return (pairValue - 2) * UP_CARDS + dealerUpValue - 2;
+    }
+
+    public boolean splitAt(int pairValue, int dealerUpValue) {
+        return pairs[pairIndex(pairValue, dealerUpValue)] == SPLIT;
+    }
+
+    static boolean isHit(byte action) {
+        return action == HIT || action == DOUBLE_OR_HIT || action == SURRENDER_OR_HIT;
+    }
+
+    public byte actionAt(int total, boolean soft, int dealerUpValue) {
+        return table[index(total, soft, dealerUpValue)];
+    }
+
+    @Override
+    public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+        int total = hand.calculateScore();
+        if (total >= GameConfig.BLACKJACK_LIMIT) return false;
+        if (dealerVisibleCard == null) return total < GameConfig.DEALER_STOP_LIMIT;
+
+        return isHit(table[index(total, hand.isSoft(), dealerVisibleCard.getValue())]);
+    }
+
+    @Override
+    public Action decide(DecisionContext context) {
+        Hand hand = context.getHand();
+        ICard upCard = context.getDealerUpCard();
+        int total = hand.calculateScore();
+        if (total >= GameConfig.BLACKJACK_LIMIT || upCard == null) return shouldHit(hand, upCard) ? Action.HIT : Action.STAND;
+
+        int up = upCard.getValue();
+        if (context.canSplit() && splitAt(hand.getCards().get(0).getValue(), up)) return Action.SPLIT;
+        return toAction(table[index(total, hand.isSoft(), up)], context);
+    }
+
+    // Перетворює код таблиці на дію з урахуванням того, що дозволено зараз
+    static Action toAction(byte action, DecisionContext context) {
+        return switch (action) {
+            case DOUBLE_OR_HIT -> context.canDouble() ? Action.DOUBLE : Action.HIT;
+            case DOUBLE_OR_STAND -> context.canDouble() ? Action.DOUBLE : Action.STAND;
+            case SURRENDER_OR_HIT -> context.canSurrender() ? Action.SURRENDER : Action.HIT;
+            case SURRENDER_OR_STAND -> context.canSurrender() ? Action.SURRENDER : Action.STAND;
+            case HIT -> Action.HIT;
+            default -> Action.STAND;
+        };
+    }
+
+    public static BasicStrategy load(Path path) throws IOException {
+        return path.toString().endsWith(".csv") ? loadCsv(path) : loadBinary(path);
+    }
+
+    public void save(Path path) throws IOException {
+        if (path.toString().endsWith(".csv")) {
+            saveCsv(path);
+        } else {
+            saveBinary(path);
+        }
+    }
+
+    public static BasicStrategy loadBinary(Path path) throws IOException {
+        try (InputStream stream = Files.newInputStream(path)) {
+            return readBinary(stream);
+        }
+    }
+
+    public static BasicStrategy readBinary(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != BINARY_MAGIC) {
+            throw new IOException("Файл не є таблицею стратегії");
+        }
+        // Довжини перевіряються до виділення: пошкоджений файл не має дати від'ємний чи величезний масив
+        int tableLength = in.readInt();
+        if (tableLength != TABLE_SIZE) throw new IOException("Невірний розмір таблиці стратегії: " + tableLength);
+        byte[] table = new byte[tableLength];
+        in.readFully(table);
+        // Старі файли містять лише таблицю "взяти/досить"
+        int pairLength;
+        try {
+            pairLength = in.readInt();
+        } catch (EOFException e) {
+            return new BasicStrategy(table);
+        }
+        if (pairLength != PAIR_TABLE_SIZE) throw new IOException("Невірний розмір таблиці пар: " + pairLength);
+        byte[] pairs = new byte[pairLength];
+        in.readFully(pairs);
+        return new BasicStrategy(table, pairs);
+    }
+
+    public void saveBinary(Path path) throws IOException {
+        try (OutputStream stream = Files.newOutputStream(path)) {
+            writeBinary(stream);
+        }
+    }
+
+    public void writeBinary(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(BINARY_MAGIC);
+        out.writeInt(table.length);
+        out.write(table);
+        out.writeInt(pairs.length);
+        out.write(pairs);
+        out.flush();
+    }
+
+    // CSV: total,soft,dealer,action (H - взяти, S - досить, Dh/Ds - подвоїти,
+    // Rh/Rs - здатися), далі секція pair,dealer,split (1 - розділити пару)
+    public static BasicStrategy loadCsv(Path path) throws IOException {
+        byte[] table = new byte[TABLE_SIZE];
+        byte[] pairs = new byte[PAIR_TABLE_SIZE];
+        boolean pairSection = false;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("total")) continue;
+                if (line.startsWith("pair")) {
+                    pairSection = true;
+                    continue;
+                }
+
+                String[] parts = line.split(",");
+                if (pairSection) {
+                    if (parts.length != 3) throw new IOException("Невірний рядок стратегії: " + line);
+                    int pair = Integer.parseInt(parts[0].trim());
+                    int dealer = Integer.parseInt(parts[1].trim());
+                    pairs[pairIndex(pair, dealer)] = parts[2].trim().equals("1") ? SPLIT : 0;
+                    continue;
+                }
+                if (parts.length != 4) throw new IOException("Невірний рядок стратегії: " + line);
+                int total = Integer.parseInt(parts[0].trim());
+                boolean soft = parts[1].trim().equals("1");
+                int dealer = Integer.parseInt(parts[2].trim());
+                table[index(total, soft, dealer)] = parseCode(parts[3].trim(), line);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Пошкоджений файл стратегії: " + path, e);
+        }
+        return new BasicStrategy(table, pairs);
+    }
+
+    private static byte parseCode(String code, String line) throws IOException {
+        for (byte action = 0; action < CODES.length; action++) {
+            if (CODES[action].equals(code)) return action;
+        }
+        throw new IOException("Невідома дія в рядку стратегії: " + line);
+    }
+
+    public void saveCsv(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("total,soft,dealer,action");
+            writer.newLine();
+            for (int total = 0; total <= GameConfig.BLACKJACK_LIMIT; total++) {
+                for (int soft = 0; soft < 2; soft++) {
+                    for (int dealer = 2; dealer <= 11; dealer++) {
+                        byte action = table[index(total, soft == 1, dealer)];
+                        writer.write(total + "," + soft + "," + dealer + "," + CODES[action]);
+                        writer.newLine();
+                    }
+                }
+            }
+            writer.write("pair,dealer,split");
+            writer.newLine();
+            for (int pair = 2; pair <= 11; pair++) {
+                for (int dealer = 2; dealer <= 11; dealer++) {
+                    writer.write(pair + "," + dealer + "," + pairs[pairIndex(pair, dealer)]);
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
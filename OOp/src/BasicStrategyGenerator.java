@@ -0,0 +1,228 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Будує базову стратегію точним розрахунком ймовірностей результатів дилера
+public final class BasicStrategyGenerator {
+    private static final int LIMIT = GameConfig.BLACKJACK_LIMIT;
+    private static final int BUST = LIMIT + 1;
+    private static final double SURRENDER_VALUE = -0.5;
+    // Ймовірність значення карти 1..10 (туз рахується як 1)
+    private static final double[] CARD_PROBABILITY = new double[11];
+
+    static {
+        for (Rank rank : Rank.values()) {
+            int value = rank == Rank.ACE ? 1 : rank.getValue();
+            CARD_PROBABILITY[value] += 1.0 / Rank.values().length;
+        }
+    }
+
+    private BasicStrategyGenerator() {
+    }
+
+    // Нескінченна колода
+    public static BasicStrategy generate() {
+        return generateInfinite(RuleSet.DEFAULT);
+    }
+
+    // Нескінченна колода; кількість колод із правил не враховується
+    public static BasicStrategy generateInfinite(RuleSet rules) {
+        byte[] table = new byte[BasicStrategy.TABLE_SIZE];
+        byte[] pairs = new byte[BasicStrategy.PAIR_TABLE_SIZE];
+        for (int up = 2; up <= 11; up++) {
+            fillUpCard(table, pairs, up, dealerOutcomes(up, rules), CARD_PROBABILITY, rules);
+        }
+        return new BasicStrategy(table, pairs);
+    }
+
+    public static BasicStrategy generate(int deckCount) {
+        return generate(RuleSet.DEFAULT.with(RuleSet.DECKS, deckCount));
+    }
+
+    // Шуз із кількістю колод за правилами: розподіл дилера враховує вилучену відкриту карту
+    public static BasicStrategy generate(RuleSet rules) {
+        byte[] table = new byte[BasicStrategy.TABLE_SIZE];
+        byte[] pairs = new byte[BasicStrategy.PAIR_TABLE_SIZE];
+        DealerProbabilityCalculator calculator = new DealerProbabilityCalculator(rules);
+
+        for (int up = 2; up <= 11; up++) {
+            Rank upRank = up == 11 ? Rank.ACE : Rank.values()[up - 2];
+            calculator.removeCard(upRank);
+
+            double[] cardProbability = new double[11];
+            for (int value = 1; value <= 10; value++) {
+                cardProbability[value] = (double) calculator.getCount(value) / calculator.getTotal();
+            }
+            fillUpCard(table, pairs, up, calculator.dealerOutcomes(up), cardProbability, rules);
+
+            calculator.addCard(upRank);
+        }
+        return new BasicStrategy(table, pairs);
+    }
+
+    private static void fillUpCard(byte[] table, byte[] pairs, int up, double[] dealer, double[] cardProbability,
+                                   RuleSet rules) {
+        if (rules.dealerPeek()) dealer = withoutNatural(up, dealer, cardProbability);
+        double[][] memo = new double[BUST][2];
+        for (double[] row : memo) Arrays.fill(row, Double.NaN);
+
+        for (int hard = 2; hard <= LIMIT; hard++) {
+            for (int ace = 0; ace < 2; ace++) {
+                boolean hasAce = ace == 1;
+                int total = best(hard, hasAce);
+                boolean soft = total != hard;
+                if (hasAce && !soft) continue;
+
+                double stand = standValue(total, dealer);
+                double hit = hitValue(hard, hasAce, dealer, cardProbability, memo);
+                double twoCard = Math.max(stand, hit);
+                byte action = hit > stand ? BasicStrategy.HIT : BasicStrategy.STAND;
+
+                double doubled = rules.canDouble(total, soft)
+                        ? doubleValue(hard, hasAce, dealer, cardProbability) : Double.NEGATIVE_INFINITY;
+                if (rules.lateSurrender() && SURRENDER_VALUE > Math.max(twoCard, doubled)) {
+                    action = action == BasicStrategy.HIT ? BasicStrategy.SURRENDER_OR_HIT : BasicStrategy.SURRENDER_OR_STAND;
+                } else if (doubled > twoCard) {
+                    action = action == BasicStrategy.HIT ? BasicStrategy.DOUBLE_OR_HIT : BasicStrategy.DOUBLE_OR_STAND;
+                }
+                table[BasicStrategy.index(total, soft, up)] = action;
+            }
+        }
+
+        for (int value = 1; value <= 10; value++) {
+            boolean ace = value == 1;
+            int hard = value * 2;
+            int total = best(hard, ace);
+            double noSplit = Math.max(standValue(total, dealer), hitValue(hard, ace, dealer, cardProbability, memo));
+            if (rules.canDouble(total, total != hard)) {
+                noSplit = Math.max(noSplit, doubleValue(hard, ace, dealer, cardProbability));
+            }
+            if (rules.lateSurrender()) noSplit = Math.max(noSplit, SURRENDER_VALUE);
+
+            if (rules.maxHands() > 1 && splitValue(value, dealer, cardProbability, memo, rules) > noSplit) {
+                pairs[BasicStrategy.pairIndex(ace ? 11 : value, up)] = BasicStrategy.SPLIT;
+            }
+        }
+    }
+
+    // Дилер із тузом або десяткою перевіряє блекджек до ходу гравця,
+    // тож гравець вирішує, вже знаючи, що блекджека в дилера немає
+    static double[] withoutNatural(int up, double[] dealer, double[] cardProbability) {
+        double natural = up == 11 ? cardProbability[10] : up == 10 ? cardProbability[1] : 0;
+        if (natural == 0) return dealer;
+
+        double[] result = new double[dealer.length];
+        for (int score = 0; score < dealer.length; score++) {
+            result[score] = dealer[score] / (1 - natural);
+        }
+        result[LIMIT] = (dealer[LIMIT] - natural) / (1 - natural);
+        return result;
+    }
+
+    // Подвоєння: рівно одна карта за подвійну ставку
+    private static double doubleValue(int hard, boolean hasAce, double[] dealer, double[] cardProbability) {
+        double ev = 0;
+        for (int value = 1; value <= 10; value++) {
+            int next = hard + value;
+            ev += cardProbability[value] * (next > LIMIT ? -1 : standValue(best(next, hasAce || value == 1), dealer));
+        }
+        return 2 * ev;
+    }
+
+    // Наближена оцінка розділення: без повторних розділень, кожна рука грає незалежно
+    private static double splitValue(int value, double[] dealer, double[] cardProbability, double[][] memo,
+                                     RuleSet rules) {
+        boolean ace = value == 1;
+        double ev = 0;
+        for (int second = 1; second <= 10; second++) {
+            int hard = value + second;
+            boolean hasAce = ace || second == 1;
+            double hand;
+            int total = best(hard, hasAce);
+            if (ace && !rules.hitSplitAces()) {
+                hand = standValue(total, dealer);
+            } else {
+                hand = Math.max(standValue(total, dealer), hitValue(hard, hasAce, dealer, cardProbability, memo));
+                if (rules.doubleAfterSplit() && rules.canDouble(total, total != hard)) {
+                    hand = Math.max(hand, doubleValue(hard, hasAce, dealer, cardProbability));
+                }
+            }
+            ev += cardProbability[second] * hand;
+        }
+        return 2 * ev;
+    }
+
+    // Розподіл фінальних очок дилера: індекс - очки, BUST - перебір
+    public static double[] dealerOutcomes(int upValue) {
+        return dealerOutcomes(upValue, RuleSet.DEFAULT);
+    }
+
+    public static double[] dealerOutcomes(int upValue, RuleSet rules) {
+        double[] result = new double[BUST + 1];
+        boolean ace = upValue == 11;
+        dealerDraw(ace ? 1 : upValue, ace, 1.0, result, rules);
+        return result;
+    }
+
+    private static void dealerDraw(int hard, boolean hasAce, double probability, double[] result, RuleSet rules) {
+        if (hard > LIMIT) {
+            result[BUST] += probability;
+            return;
+        }
+        int score = best(hard, hasAce);
+        if (!rules.dealerHits(score, score != hard)) {
+            result[score] += probability;
+            return;
+        }
+        for (int value = 1; value <= 10; value++) {
+            dealerDraw(hard + value, hasAce || value == 1, probability * CARD_PROBABILITY[value], result, rules);
+        }
+    }
+
+    static double standValue(int total, double[] dealer) {
+        double ev = dealer[BUST];
+        for (int score = 0; score <= LIMIT; score++) {
+            if (score < total) ev += dealer[score];
+            else if (score > total) ev -= dealer[score];
+        }
+        return ev;
+    }
+
+    private static double hitValue(int hard, boolean hasAce, double[] dealer, double[] cardProbability,
+                                   double[][] memo) {
+        double ev = 0;
+        for (int value = 1; value <= 10; value++) {
+            ev += cardProbability[value] * bestValue(hard + value, hasAce || value == 1, dealer, cardProbability, memo);
+        }
+        return ev;
+    }
+
+    private static double bestValue(int hard, boolean hasAce, double[] dealer, double[] cardProbability,
+                                    double[][] memo) {
+        if (hard > LIMIT) return -1;
+
+        int ace = hasAce ? 1 : 0;
+        if (Double.isNaN(memo[hard][ace])) {
+            double stand = standValue(best(hard, hasAce), dealer);
+            memo[hard][ace] = Math.max(stand, hitValue(hard, hasAce, dealer, cardProbability, memo));
+        }
+        return memo[hard][ace];
+    }
+
+    private static int best(int hard, boolean hasAce) {
+        return hasAce && hard + 10 <= LIMIT ? hard + 10 : hard;
+    }
+
+    // Аргументи: [файл] [колоди | файл правил]; 0 колод - нескінченна колода
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args.length > 0 ? args[0] : "basic-strategy.bin");
+        String source = args.length > 1 ? args[1] : "0";
+        if (source.matches("\\d+")) {
+            int decks = Integer.parseInt(source);
+            (decks > 0 ? generate(decks) : generate()).save(path);
+        } else {
+            generate(RuleSet.load(Path.of(source))).save(path);
+        }
+        System.out.println("Таблицю стратегії збережено: " + path);
+    }
+}
\ No newline at end of file
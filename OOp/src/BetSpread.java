@@ -0,0 +1,54 @@
+import java.util.Arrays;
+
+// Розмір ставки за істинним рахунком: units[i] базових ставок при округленому
+// вниз рахунку i; від'ємний рахунок - units[0], рахунок понад таблицю - останній елемент
+public class BetSpread {
+    public static final BetSpread ONE_TO_EIGHT = new BetSpread(GameConfig.DEFAULT_BET, new int[]{1, 1, 2, 4, 6, 8});
+
+    private final long unit;
+    private final int[] units;
+
+    public BetSpread(long unit, int[] units) {
+        if (unit <= 0) throw new IllegalArgumentException("Базова ставка має бути додатною");
+        if (units.length == 0) throw new IllegalArgumentException("Порожня таблиця ставок");
+        for (int value : units) {
+            if (value <= 0) throw new IllegalArgumentException("Кількість базових ставок має бути додатною: " + value);
+        }
+        this.unit = unit;
+        this.units = units.clone();
+    }
+
+    // Формат: "1,1,2,4,6,8" - кількість базових ставок для істинного рахунку 0, 1, 2, ...
+    public static BetSpread parse(long unit, String spec) {
+        String[] parts = spec.split(",");
+        int[] units = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            units[i] = Integer.parseInt(parts[i].trim());
+        }
+        return new BetSpread(unit, units);
+    }
+
+    public long betFor(double trueCount) {
+        int index = (int) Math.max(0, Math.min(units.length - 1, Math.floor(trueCount)));
+        return unit * units[index];
+    }
+
+    public long getUnit() {
+        return unit;
+    }
+
+    // Та сама форма, що приймає parse
+    public String getSpec() {
+        StringBuilder spec = new StringBuilder();
+        for (int value : units) {
+            if (!spec.isEmpty()) spec.append(',');
+            spec.append(value);
+        }
+        return spec.toString();
+    }
+
+    @Override
+    public String toString() {
+        return Bankroll.format(unit) + " x " + Arrays.toString(units);
+    }
+}
\ No newline at end of file
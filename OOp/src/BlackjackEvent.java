@@ -0,0 +1,6 @@
+public record BlackjackEvent(int tableId, long roundId, int participant, int hand) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onBlackjack(this);
+    }
+}
\ No newline at end of file
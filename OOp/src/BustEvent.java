@@ -0,0 +1,6 @@
+public record BustEvent(int tableId, long roundId, int participant, int hand, int score) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onBust(this);
+    }
+}
\ No newline at end of file
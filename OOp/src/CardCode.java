@@ -0,0 +1,23 @@
+// Компактне кодування карти одним числом: масть * 13 + ранг
+public final class CardCode {
+    public static final int RANKS = Rank.values().length;
+    public static final int COUNT = Suit.values().length * RANKS;
+
+    private static final Suit[] SUITS = Suit.values();
+    private static final Rank[] RANK_VALUES = Rank.values();
+
+    private CardCode() {
+    }
+
+    public static int encode(Suit suit, Rank rank) {
+        return suit.ordinal() * RANKS + rank.ordinal();
+    }
+
+    public static Suit suit(int code) {
+        return SUITS[code / RANKS];
+    }
+
+    public static Rank rank(int code) {
+        return RANK_VALUES[code % RANKS];
+    }
+}
\ No newline at end of file
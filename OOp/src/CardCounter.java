@@ -0,0 +1,75 @@
+// Поточний рахунок карт, що вийшли з колоди. Колода повідомляє про кожну
+// взяту карту (O(1)) і скидає рахунок при перезбиранні.
+// Закрита карта дилера лише зменшує залишок; її тег додається, коли карту відкривають
+public class CardCounter {
+    private static final int NONE = -1;
+
+    private final CountingSystem system;
+    private final BetSpread betSpread;
+    private int runningCount;
+    private int remaining;
+    private int heldCode = NONE;
+
+    public CardCounter(CountingSystem system) {
+        this(system, null);
+    }
+
+    // З таблицею ставок стіл перед кожним раундом ставить за істинним рахунком
+    public CardCounter(CountingSystem system, BetSpread betSpread) {
+        this.system = system;
+        this.betSpread = betSpread;
+    }
+
+    void reset(int cardCount) {
+        runningCount = 0;
+        remaining = cardCount;
+        heldCode = NONE;
+    }
+
+    void onCard(int cardCode) {
+        runningCount += system.tagOf(cardCode);
+        remaining--;
+    }
+
+    // Карта роздана закритою: гравець бачить, що вона вийшла, але не бачить її рангу
+    void onHiddenCard(int cardCode) {
+        reveal();
+        heldCode = cardCode;
+        remaining--;
+    }
+
+    // Уже врахована карта знову стає закритою (відновлення раунду зі знімка)
+    void hide(int cardCode) {
+        reveal();
+        runningCount -= system.tagOf(cardCode);
+        heldCode = cardCode;
+    }
+
+    void reveal() {
+        if (heldCode == NONE) return;
+        runningCount += system.tagOf(heldCode);
+        heldCode = NONE;
+    }
+
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    // Поточний рахунок на одну колоду, що лишилася
+    public double getTrueCount() {
+        if (remaining <= 0) return 0;
+        return runningCount * (double) CardCode.COUNT / remaining;
+    }
+
+    public CountingSystem getSystem() {
+        return system;
+    }
+
+    public BetSpread getBetSpread() {
+        return betSpread;
+    }
+}
\ No newline at end of file
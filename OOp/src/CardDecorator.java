@@ -15,6 +15,22 @@ public abstract class CardDecorator implements ICard {
         return decoratedCard.getRank();
     }
 
+    @Override
+    public Suit getSuit() {
+        return decoratedCard.getSuit();
+    }
+
+    // Кожен стиль має власні канонічні екземпляри, тож обгортки різних стилів не рівні
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return decoratedCard.hashCode();
+    }
+
     @Override
     public String toString() {
         return getDisplayString();
@@ -0,0 +1,47 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Готові підписи всіх 52 карт одного стилю (фабрики) - як String і як байти UTF-8.
+// Рука виводиться дописуванням готових фрагментів, без склеювання рядків на кожне повідомлення
+public final class CardRenderer {
+    private static final byte[] OPEN = {'['};
+    private static final byte[] SEPARATOR = {',', ' '};
+    private static final byte[] CLOSE = {']'};
+    // Стиль визначає клас фабрики, тож одна таблиця на клас
+    private static final Map<Class<?>, CardRenderer> RENDERERS = new ConcurrentHashMap<>();
+
+    private final String[] names = new String[CardCode.COUNT];
+    private final byte[][] bytes = new byte[CardCode.COUNT][];
+
+    private CardRenderer(CardFactory factory) {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                int code = CardCode.encode(suit, rank);
+                names[code] = factory.createCard(suit, rank).getDisplayString();
+                bytes[code] = TextBuffer.utf8(names[code]);
+            }
+        }
+    }
+
+    public static CardRenderer of(CardFactory factory) {
+        return RENDERERS.computeIfAbsent(factory.getClass(), type -> new CardRenderer(factory));
+    }
+
+    public String name(int code) {
+        return names[code];
+    }
+
+    public TextBuffer appendCard(TextBuffer out, int code) {
+        return out.append(bytes[code]);
+    }
+
+    // Рука у форматі List.toString: [A ♠, 10 ♥]
+    public TextBuffer appendHand(TextBuffer out, int[] codes, int size) {
+        out.append(OPEN);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) out.append(SEPARATOR);
+            out.append(bytes[codes[i]]);
+        }
+        return out.append(CLOSE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+// Канонічні незмінні екземпляри 52 карт одного стилю, індекс - CardCode.
+// Фабрика повертає карту з таблиці, тож одна карта стилю - один об'єкт на всю програму
+public final class CardTable {
+    private final ICard[] cards = new ICard[CardCode.COUNT];
+
+    public CardTable(BiFunction<Suit, Rank, ICard> creator) {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                cards[CardCode.encode(suit, rank)] = creator.apply(suit, rank);
+            }
+        }
+    }
+
+    // Новий стиль поверх іншого: декоратор обгортає вже канонічні карти базової таблиці
+    public CardTable decorate(UnaryOperator<ICard> decorator) {
+        return new CardTable((suit, rank) -> decorator.apply(get(suit, rank)));
+    }
+
+    public ICard get(Suit suit, Rank rank) {
+        return cards[CardCode.encode(suit, rank)];
+    }
+
+    public ICard get(int code) {
+        return cards[code];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,320 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+// Контрольні точки столів в одному файлі через FileChannel. Кожен стіл має власну
+// область і пише лише її, не частіше ніж раз на період; сам запис у канал виконує окремий потік. Порядок карт пишеться лише
+// після перемішування, а кожна точка - це курсор, руки й банкрол (TableSnapshot.writeState).
+// І порядок, і стан мають по два слоти, що чергуються, тож обірваний запис не зачіпає
+// попередній знімок. Скидання на диск (force) виконує фоновий потік раз на період для всіх столів.
+// Файл: u32 "BJCP", u32 версія, u32 розмір блоку колоди, u32 розмір слота стану, далі області.
+// Область: два блоки колоди, два слоти стану.
+// Блок колоди: u32 CRC32 решти блоку, u32 довжина, i64 покоління колоди, порядок карт.
+// Слот стану: u32 CRC32 решти слота, u32 довжина, i64 номер запису, i64 покоління колоди, стан
+public class CheckpointStore implements AutoCloseable {
+    private static final int FILE_MAGIC = 0x424A4350; // "BJCP"
+    private static final int VERSION = 2;
+    private static final int FILE_HEADER = 16;
+    private static final int DECK_HEADER = 16;
+    private static final int STATE_HEADER = 24;
+
+    private final FileChannel channel;
+    private final int deckBlockSize;
+    private final int stateSlotSize;
+    private final long periodNanos;
+    private final Map<Integer, Region> regions = new ConcurrentHashMap<>();
+    private final AtomicInteger nextRegion = new AtomicInteger();
+    private final Map<Integer, TableSnapshot> restored = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+    private final ExecutorService writer;
+
+    // maxDeckSize - найбільша колода серед столів у картах (колоди * 52)
+    public CheckpointStore(Path file, int maxDeckSize, long periodMillis) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+        this.stateSlotSize = STATE_HEADER + TableSnapshot.maxStateSize();
+        try {
+            this.deckBlockSize = channel.size() >= FILE_HEADER
+                    ? load(maxDeckSize)
+                    : createHeader(DECK_HEADER + maxDeckSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.flusher = Executors.newSingleThreadScheduledExecutor(task -> daemon(task, "checkpoint-flusher"));
+        this.writer = Executors.newSingleThreadExecutor(task -> daemon(task, "checkpoint-writer"));
+        flusher.scheduleAtFixedRate(this::forceQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static Thread daemon(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private int createHeader(int deckBlockSize) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER)
+                .putInt(FILE_MAGIC).putInt(VERSION).putInt(deckBlockSize).putInt(stateSlotSize);
+        writeFully(header.clear(), 0);
+        return deckBlockSize;
+    }
+
+    private long regionOffset(int index) {
+        return FILE_HEADER + (long) index * (2L * deckBlockSize + 2L * stateSlotSize);
+    }
+
+    // Читає весь файл одним запитом і відбирає в кожній області цілий слот стану з найбільшим
+    // номером, чий блок колоди теж цілий
+    private int load(int maxDeckSize) throws IOException {
+        ByteBuffer file = ByteBuffer.allocate((int) channel.size());
+        while (file.hasRemaining() && channel.read(file, file.position()) >= 0) {
+            // Дочитуємо, доки файл не закінчиться
+        }
+        file.flip();
+        if (file.getInt(0) != FILE_MAGIC) throw new IOException("Файл не є файлом контрольних точок");
+        if (file.getInt(4) != VERSION) throw new IOException("Непідтримувана версія файлу контрольних точок: " + file.getInt(4));
+        int existingDeckBlock = file.getInt(8);
+        if (existingDeckBlock < DECK_HEADER + maxDeckSize) {
+            throw new IOException("Блоки колоди у файлі замалі для колоди з " + maxDeckSize + " карт");
+        }
+        if (file.getInt(12) != stateSlotSize) throw new IOException("Інший розмір слота стану: " + file.getInt(12));
+
+        CRC32 crc = new CRC32();
+        int regionSize = 2 * existingDeckBlock + 2 * stateSlotSize;
+        // Остання область може бути записана не до кінця: файл закінчується на її останньому записі
+        int regionCount = (file.limit() - FILE_HEADER + regionSize - 1) / regionSize;
+        if (file.limit() < FILE_HEADER + regionCount * regionSize) {
+            file = ByteBuffer.allocate(FILE_HEADER + regionCount * regionSize).put(file).clear();
+        }
+        for (int index = 0; index < regionCount; index++) {
+            int base = FILE_HEADER + index * regionSize;
+            ByteBuffer[] decks = new ByteBuffer[2];
+            long[] generations = new long[2];
+            for (int block = 0; block < 2; block++) {
+                ByteBuffer payload = validPayload(file, base + block * existingDeckBlock, DECK_HEADER, existingDeckBlock, crc);
+                if (payload == null) continue;
+                decks[block] = payload;
+                generations[block] = file.getLong(base + block * existingDeckBlock + 8);
+            }
+
+            long bestSequence = 0;
+            long bestGeneration = 0;
+            TableSnapshot best = null;
+            for (int slot = 0; slot < 2; slot++) {
+                int offset = base + 2 * existingDeckBlock + slot * stateSlotSize;
+                ByteBuffer payload = validPayload(file, offset, STATE_HEADER, stateSlotSize, crc);
+                long sequence = file.getLong(offset + 8);
+                if (payload == null || sequence <= bestSequence) continue;
+                long generation = file.getLong(offset + 16);
+                int block = (int) (generation & 1);
+                if (decks[block] == null || generations[block] != generation) continue;
+                try {
+                    best = TableSnapshot.read(payload, decks[block].duplicate());
+                    bestSequence = sequence;
+                    bestGeneration = generation;
+                } catch (RuntimeException e) {
+                    // Слот з правильною сумою, але чужого формату - пропускаємо
+                }
+            }
+            // Наступне покоління колоди піде в блок, на який цей слот не посилається
+            if (best != null) {
+                regions.put(best.getTableId(), new Region(index, existingDeckBlock, stateSlotSize, bestSequence, bestGeneration));
+                restored.put(best.getTableId(), best);
+            }
+        }
+        nextRegion.set(regionCount);
+        return existingDeckBlock;
+    }
+
+    // Дані після заголовка, якщо довжина в межах і CRC32 сходиться; інакше null
+    private static ByteBuffer validPayload(ByteBuffer file, int offset, int headerSize, int blockSize, CRC32 crc) {
+        int length = file.getInt(offset + 4);
+        if (length <= 0 || length > blockSize - headerSize) return null;
+        crc.reset();
+        crc.update(file.slice(offset + 4, headerSize - 4 + length));
+        if ((int) crc.getValue() != file.getInt(offset)) return null;
+        return file.slice(offset + headerSize, length);
+    }
+
+    // Знімки, знайдені у файлі під час відкриття
+    public Collection<TableSnapshot> restored() {
+        return Collections.unmodifiableCollection(restored.values());
+    }
+
+    // Викликається потоком стола в безпечній точці; пише, лише якщо минув період
+    public boolean checkpoint(GameManager game) {
+        Region region = region(game);
+        long now = System.nanoTime();
+        if (region.written && now - region.lastWrite < periodNanos) return false;
+        write(region, game);
+        region.lastWrite = now;
+        region.written = true;
+        return true;
+    }
+
+    // Негайний запис незалежно від періоду (наприклад, перед зупинкою стола)
+    public void write(GameManager game) {
+        Region region = region(game);
+        write(region, game);
+        region.lastWrite = System.nanoTime();
+        region.written = true;
+    }
+
+    private Region region(GameManager game) {
+        Region region = regions.get(game.getTableId());
+        if (region != null) return region;
+        if (DECK_HEADER + game.getDeck().size() > deckBlockSize) {
+            throw new IllegalArgumentException("Колода стола " + game.getTableId() + " не вміщується в блок");
+        }
+        return regions.computeIfAbsent(game.getTableId(),
+                id -> new Region(nextRegion.getAndIncrement(), deckBlockSize, stateSlotSize, 0, 0));
+    }
+
+    private void write(Region region, GameManager game) {
+        long base = regionOffset(region.index);
+        // Новий порядок карт іде в інший блок, ніж той, на який посилається останній стан
+        Deck deck = game.getDeck();
+        boolean newOrder = deck.orderVersion() != region.deckVersion;
+        if (newOrder) {
+            region.deckGeneration++;
+            ByteBuffer block = region.deckBuffer.clear();
+            block.position(DECK_HEADER);
+            block.put(deck.order());
+            seal(region, block, deck.order().length, DECK_HEADER, 8, region.deckGeneration);
+        }
+        long deckOffset = base + (region.deckGeneration & 1) * deckBlockSize;
+
+        ByteBuffer slot = region.stateBuffer.clear();
+        slot.position(STATE_HEADER);
+        TableSnapshot.writeState(game, slot);
+        region.sequence++;
+        slot.putLong(16, region.deckGeneration);
+        seal(region, slot, slot.position() - STATE_HEADER, STATE_HEADER, 8, region.sequence);
+        long stateOffset = base + 2L * deckBlockSize + (region.sequence & 1) * stateSlotSize;
+
+        try {
+            await(writer.submit(() -> {
+                if (newOrder) writeFully(region.deckBuffer, deckOffset);
+                writeFully(slot, stateOffset);
+                return null;
+            }));
+            if (newOrder) region.deckVersion = deck.orderVersion();
+        } catch (IOException | RejectedExecutionException e) {
+            // Стіл продовжує грати; наступна точка спробує ще раз
+            System.err.println("Не вдалося записати контрольну точку стола " + game.getTableId() + ": " + e);
+        }
+    }
+
+    // Переривання потоку під час FileChannel.write закриває спільний канал для всіх столів,
+    // тож пише окремий потік, а стіл чекає на нього без реакції на переривання і потім
+    // відновлює прапорець (так закривається стіл, що чекає на хід гравця)
+    private static void await(Future<?> done) throws IOException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    done.get();
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof IOException io) throw io;
+                    throw new IOException(e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    // Заповнює довжину, число за numberOffset і CRC32 та готує буфер до запису
+    private static void seal(Region region, ByteBuffer buffer, int length, int headerSize, int numberOffset, long number) {
+        buffer.putInt(4, length).putLong(numberOffset, number);
+        region.crc.reset();
+        region.crc.update(buffer.slice(4, headerSize - 4 + length));
+        buffer.putInt(0, (int) region.crc.getValue());
+        buffer.limit(headerSize + length).position(0);
+    }
+
+    private void writeFully(ByteBuffer buffer, long offset) throws IOException {
+        int start = buffer.position();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, offset + buffer.position() - start);
+        }
+    }
+
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    private void forceQuietly() {
+        try {
+            force();
+        } catch (IOException e) {
+            System.err.println("Не вдалося скинути контрольні точки на диск: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Переривання фонового force() закрило б канал, тож потоки лише зупиняються,
+        // а початі запис і скидання завершуються до останнього force()
+        stop(flusher);
+        stop(writer);
+        try {
+            force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static void stop(ExecutorService executor) {
+        executor.shutdown();
+        boolean interrupted = false;
+        while (!executor.isTerminated()) {
+            try {
+                executor.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    // Область стола: буфери і CRC перевикористовуються між записами
+    private static class Region {
+        private final int index;
+        private final ByteBuffer deckBuffer;
+        private final ByteBuffer stateBuffer;
+        private final CRC32 crc = new CRC32();
+        private long sequence;
+        private long deckGeneration;
+        // Версія порядку карт (Deck.orderVersion), уже записана в блок
+        private int deckVersion = -1;
+        private long lastWrite;
+        private boolean written;
+
+        Region(int index, int deckBlockSize, int stateSlotSize, long sequence, long deckGeneration) {
+            this.index = index;
+            this.deckBuffer = ByteBuffer.allocate(deckBlockSize);
+            this.stateBuffer = ByteBuffer.allocate(stateSlotSize);
+            this.sequence = sequence;
+            this.deckGeneration = deckGeneration;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,204 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Оптимальне "взяти чи зупинитися" для кожного складу руки гравця й відкритої карти дилера
+// з урахуванням того, які саме карти вже вийшли з колоди. Склад руки - кількість карт
+// кожного значення, упакована в long (CompositionStrategy.key). Верхній рівень - пара
+// (відкрита карта, перші дві карти гравця) - ділиться на задачі fork-join пулу, а значення
+// складів лежать у спільній таблиці: склад, до якого ведуть різні пари, рахується один раз
+public final class CompositionSolver {
+    private static final int LIMIT = GameConfig.BLACKJACK_LIMIT;
+    private static final Rank[] VALUE_RANKS = new Rank[11];
+
+    static {
+        for (Rank rank : Rank.values()) {
+            int value = DealerProbabilityCalculator.valueOf(rank);
+            if (VALUE_RANKS[value] == null) VALUE_RANKS[value] = rank;
+        }
+    }
+
+    private final RuleSet rules;
+    private final int[] rankCounts;
+    private final ForkJoinPool pool;
+    // Ключ CompositionStrategy.key -> EV зупинки й EV взяття карти
+    private final ConcurrentHashMap<Long, double[]> values = new ConcurrentHashMap<>();
+
+    // Повний шуз за правилами
+    public CompositionSolver(RuleSet rules, ForkJoinPool pool) {
+        this(rules, fullShoe(rules.decks()), pool);
+    }
+
+    // Склад карт, що лишилися в колоді, на момент виклику
+    public CompositionSolver(Deck deck, RuleSet rules, ForkJoinPool pool) {
+        this(rules, deck.remainingRankCounts(), pool);
+    }
+
+    private CompositionSolver(RuleSet rules, int[] rankCounts, ForkJoinPool pool) {
+        this.rules = rules;
+        this.rankCounts = rankCounts.clone();
+        this.pool = pool;
+    }
+
+    private static int[] fullShoe(int decks) {
+        if (decks < 1 || decks > DealerProbabilityCalculator.MAX_DECKS) {
+            throw new IllegalArgumentException("Підтримується від 1 до " + DealerProbabilityCalculator.MAX_DECKS + " колод");
+        }
+        int[] counts = new int[CardCode.RANKS];
+        Arrays.fill(counts, decks * Suit.values().length);
+        return counts;
+    }
+
+    // Таблиця для MoveStrategy; подвоєння, розділення й капітуляцію вирішує base
+    public CompositionStrategy solve(BasicStrategy base) {
+        List<PairTask> tasks = new ArrayList<>();
+        int[] counts = valueCounts();
+        for (int up = 1; up <= 10; up++) {
+            for (int first = 1; first <= 10; first++) {
+                for (int second = first; second <= 10; second++) {
+                    if (available(counts, up, first, second)) tasks.add(new PairTask(up, first, second));
+                }
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        return export(base);
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private int[] valueCounts() {
+        int[] values = new int[11];
+        Rank[] ranks = Rank.values();
+        for (int i = 0; i < ranks.length; i++) {
+            values[DealerProbabilityCalculator.valueOf(ranks[i])] += rankCounts[i];
+        }
+        return values;
+    }
+
+    private static boolean available(int[] counts, int up, int first, int second) {
+        int[] needed = new int[11];
+        needed[up]++;
+        needed[first]++;
+        needed[second]++;
+        for (int value = 1; value <= 10; value++) {
+            if (needed[value] > counts[value]) return false;
+        }
+        // Блекджек гравця рішення не потребує
+        return !(first == 1 && second == 10);
+    }
+
+    private CompositionStrategy export(BasicStrategy base) {
+        long[] keys = new long[values.size()];
+        int count = 0;
+        for (Long key : values.keySet()) keys[count++] = key;
+        Arrays.sort(keys, 0, count);
+        boolean[] hits = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            double[] ev = values.get(keys[i]);
+            hits[i] = ev[1] > ev[0];
+        }
+        return new CompositionStrategy(Arrays.copyOf(keys, count), hits, base);
+    }
+
+    // Одна пара (відкрита карта, дві карти гравця). Власний калькулятор дилера завжди
+    // відповідає колоді без відкритої карти та поточного складу руки
+    private class PairTask extends RecursiveAction {
+        private final int up;
+        private final int first;
+        private final int second;
+        private DealerProbabilityCalculator dealer;
+
+        PairTask(int up, int first, int second) {
+            this.up = up;
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        protected void compute() {
+            dealer = DealerProbabilityCalculator.of(rules, rankCounts);
+            dealer.removeCard(VALUE_RANKS[up]);
+            dealer.removeCard(VALUE_RANKS[first]);
+            dealer.removeCard(VALUE_RANKS[second]);
+            long key = CompositionStrategy.key(up == 1 ? 11 : up, 0)
+                    + CompositionStrategy.cardKey(first) + CompositionStrategy.cardKey(second);
+            best(key, first + second, first == 1 || second == 1);
+        }
+
+        // Найкраще EV руки зі складом key; hard - сума з тузами по 1
+        private double best(long key, int hard, boolean hasAce) {
+            double[] ev = values.get(key);
+            if (ev == null) {
+                ev = evaluate(key, hard, hasAce);
+                // Інша задача могла порахувати той самий склад одночасно - результат однаковий
+                double[] raced = values.putIfAbsent(key, ev);
+                if (raced != null) ev = raced;
+            }
+            return Math.max(ev[0], ev[1]);
+        }
+
+        private double[] evaluate(long key, int hard, boolean hasAce) {
+            int total = hasAce && hard + 10 <= LIMIT ? hard + 10 : hard;
+            double[] outcomes = dealer.dealerOutcomes(up == 1 ? 11 : up);
+            // Стани дилера для іншого складу руки не повторюються, тож кеш не накопичується
+            dealer.clearCache();
+            if (rules.dealerPeek()) outcomes = BasicStrategyGenerator.withoutNatural(up == 1 ? 11 : up, outcomes, probabilities());
+            double stand = BasicStrategyGenerator.standValue(total, outcomes);
+            if (total == LIMIT) return new double[] {stand, Double.NEGATIVE_INFINITY};
+
+            double hit = 0;
+            int remaining = dealer.getTotal();
+            for (int value = 1; value <= 10; value++) {
+                int count = dealer.getCount(value);
+                if (count == 0) continue;
+                double probability = (double) count / remaining;
+                if (hard + value > LIMIT) {
+                    hit -= probability;
+                    continue;
+                }
+                dealer.removeCard(VALUE_RANKS[value]);
+                hit += probability * best(key + CompositionStrategy.cardKey(value), hard + value, hasAce || value == 1);
+                dealer.addCard(VALUE_RANKS[value]);
+            }
+            return new double[] {stand, hit};
+        }
+
+        private double[] probabilities() {
+            double[] probability = new double[11];
+            for (int value = 1; value <= 10; value++) {
+                probability[value] = (double) dealer.getCount(value) / dealer.getTotal();
+            }
+            return probability;
+        }
+    }
+
+    // Аргументи: [файл] [колоди | файл правил]
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args.length > 0 ? args[0] : "composition-strategy.bin");
+        String source = args.length > 1 ? args[1] : "1";
+        RuleSet rules = source.matches("\\d+")
+                ? RuleSet.DEFAULT.with(RuleSet.DECKS, Integer.parseInt(source))
+                : RuleSet.load(Path.of(source));
+
+        long startTime = System.nanoTime();
+        BasicStrategy base = BasicStrategyGenerator.generate(rules);
+        CompositionStrategy strategy = new CompositionSolver(rules, ForkJoinPool.commonPool()).solve(base);
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        strategy.save(path);
+        System.out.println("Складів руки: " + strategy.size() + " | Відхилень від базової стратегії: "
+                + strategy.deviations() + " | Час: " + elapsedMs + " мс");
+        System.out.println("Таблицю збережено: " + path);
+    }
+}
\ No newline at end of file
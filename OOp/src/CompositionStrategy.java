@@ -0,0 +1,136 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Стратегія, що залежить від складу руки: "взяти чи зупинитися" береться з таблиці
+// CompositionSolver, а подвоєння, розділення й капітуляцію, як і незнайдені склади,
+// вирішує базова стратегія. Пошук - бінарний по відсортованих ключах, без об'єктів
+public class CompositionStrategy implements MoveStrategy {
+    // 5 біт на кількість карт кожного значення 1..10 (до 21 туза), далі відкрита карта дилера
+    private static final int COUNT_BITS = 5;
+    private static final int UP_SHIFT = COUNT_BITS * 10;
+    private static final int BINARY_MAGIC = 0x424A4344; // "BJCD"
+
+    private final long[] keys;
+    private final boolean[] hits;
+    private final BasicStrategy base;
+
+    public CompositionStrategy(long[] keys, boolean[] hits, BasicStrategy base) {
+        if (keys.length != hits.length) throw new IllegalArgumentException("Розміри таблиці не збігаються");
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] >= keys[i]) throw new IllegalArgumentException("Ключі мають бути відсортовані без повторів");
+        }
+        this.keys = keys.clone();
+        this.hits = hits.clone();
+        this.base = base;
+    }
+
+    // Ключ порожньої руки проти відкритої карти (2..11); карти додаються через cardKey
+    public static long key(int dealerUpValue, long cards) {
+        return (long) dealerUpValue << UP_SHIFT | cards;
+    }
+
+    // Внесок однієї карти значення 1..10 (туз - 1)
+    public static long cardKey(int value) {
+        return 1L << (value - 1) * COUNT_BITS;
+    }
+
+    public static long key(Hand hand, int dealerUpValue) {
+        long cards = 0;
+        for (int i = 0; i < hand.size(); i++) {
+            ICard card = hand.getCards().get(i);
+            cards += cardKey(card.getRank() == Rank.ACE ? 1 : card.getValue());
+        }
+        return key(dealerUpValue, cards);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public BasicStrategy getBase() {
+        return base;
+    }
+
+    // Кількість складів, де рішення відрізняється від базової стратегії за сумою очок
+    public int deviations() {
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            int up = (int) (keys[i] >>> UP_SHIFT);
+            int hard = 0;
+            boolean hasAce = false;
+            for (int value = 1; value <= 10; value++) {
+                int cards = (int) (keys[i] >>> (value - 1) * COUNT_BITS) & (1 << COUNT_BITS) - 1;
+                hard += cards * value;
+                hasAce |= value == 1 && cards > 0;
+            }
+            boolean soft = hasAce && hard + 10 <= GameConfig.BLACKJACK_LIMIT;
+            int total = soft ? hard + 10 : hard;
+            if (total >= GameConfig.BLACKJACK_LIMIT) continue;
+            if (BasicStrategy.isHit(base.actionAt(total, soft, up)) != hits[i]) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+        if (dealerVisibleCard == null) return base.shouldHit(hand, null);
+        int index = Arrays.binarySearch(keys, key(hand, dealerVisibleCard.getValue()));
+        return index >= 0 ? hits[index] : base.shouldHit(hand, dealerVisibleCard);
+    }
+
+    @Override
+    public Action decide(DecisionContext context) {
+        Action action = base.decide(context);
+        if ((action != Action.HIT && action != Action.STAND) || context.getDealerUpCard() == null) return action;
+        int index = Arrays.binarySearch(keys, key(context.getHand(), context.getDealerUpCard().getValue()));
+        if (index < 0) return action;
+        return hits[index] ? Action.HIT : Action.STAND;
+    }
+
+    // Формат: магічне число, кількість, пари (ключ, 1 - взяти карту), потім базова стратегія
+    public void save(Path path) throws IOException {
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path))) {
+            writeBinary(stream);
+        }
+    }
+
+    public void writeBinary(OutputStream stream) throws IOException {
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeInt(BINARY_MAGIC);
+        out.writeInt(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            out.writeLong(keys[i]);
+            out.writeBoolean(hits[i]);
+        }
+        out.flush();
+        base.writeBinary(stream);
+    }
+
+    public static CompositionStrategy load(Path path) throws IOException {
+        try (InputStream stream = new BufferedInputStream(Files.newInputStream(path))) {
+            return readBinary(stream);
+        }
+    }
+
+    public static CompositionStrategy readBinary(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(stream);
+        if (in.readInt() != BINARY_MAGIC) throw new IOException("Це не файл стратегії за складом руки");
+        int count = in.readInt();
+        if (count < 0) throw new IOException("Пошкоджений файл стратегії: " + count);
+        long[] keys = new long[count];
+        boolean[] hits = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = in.readLong();
+            hits[i] = in.readBoolean();
+        }
+        return new CompositionStrategy(keys, hits, BasicStrategy.readBinary(stream));
+    }
+}
\ No newline at end of file
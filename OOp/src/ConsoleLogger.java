@@ -1,6 +1,37 @@
-public class ConsoleLogger implements GameObserver {
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+public class ConsoleLogger extends GameEventFormatter implements GameObserver {
+    private static final byte[] NEWLINE = TextBuffer.utf8(System.lineSeparator());
+
+    public ConsoleLogger() {
+        this(new SimpleCardFactory());
+    }
+
+    // Фабрика визначає вигляд карт у повідомленнях
+    public ConsoleLogger(CardFactory factory) {
+        super(factory);
+    }
+
     @Override
     public void update(String message) {
         System.out.println(message);
     }
+
+    @Override
+    protected void emit(String message) {
+        update(message);
+    }
+
+    // Байти UTF-8 ідуть у System.out напряму, без проміжного String, лише коли консоль
+    // теж у UTF-8; інакше рядок кодує сам System.out, як і println в update()
+    @Override
+    protected void emit(TextBuffer line) {
+        PrintStream out = System.out;
+        if (StandardCharsets.UTF_8.equals(out.charset())) {
+            line.append(NEWLINE).writeTo(out);
+        } else {
+            update(line.toString());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+import java.util.concurrent.atomic.AtomicReference;
+
+// Спільна статистика EV для ранньої зупинки симуляції. Потоки зливають свої
+// пакети раундів без блокувань: кожне злиття - новий знімок, встановлений через CAS
+public class ConvergenceMonitor {
+    public static final double Z_95 = 1.96;
+    // Менше раундів дають ненадійну оцінку дисперсії
+    public static final long DEFAULT_MIN_ROUNDS = 100_000;
+
+    private final double targetHalfWidth;
+    private final long minRounds;
+    private final AtomicReference<OnlineStats> stats = new AtomicReference<>(new OnlineStats());
+    private volatile boolean converged;
+
+    // targetHalfWidth - у тих самих одиницях, що й значення пакетів (копійки)
+    public ConvergenceMonitor(double targetHalfWidth) {
+        this(targetHalfWidth, DEFAULT_MIN_ROUNDS);
+    }
+
+    public ConvergenceMonitor(double targetHalfWidth, long minRounds) {
+        if (targetHalfWidth <= 0) throw new IllegalArgumentException("Ширина інтервалу має бути додатною");
+        this.targetHalfWidth = targetHalfWidth;
+        this.minRounds = minRounds;
+    }
+
+    public void merge(OnlineStats batch) {
+        OnlineStats current;
+        OnlineStats next;
+        do {
+            current = stats.get();
+            next = current.copy().merge(batch);
+        } while (!stats.compareAndSet(current, next));
+
+        if (next.getCount() >= minRounds && next.getHalfWidth(Z_95) <= targetHalfWidth) {
+            converged = true;
+        }
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public OnlineStats snapshot() {
+        return stats.get().copy();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+import java.util.Arrays;
+
+// Базова стратегія з відхиленнями за істинним рахунком (index plays).
+// Для позиції з індексом гравець зупиняється, якщо істинний рахунок >= індексу
+public class CountingStrategy implements MoveStrategy {
+    private static final double INSURANCE_INDEX = 3;
+
+    private final BasicStrategy basic;
+    private final float[] standIndex = new float[BasicStrategy.TABLE_SIZE];
+
+    public CountingStrategy(BasicStrategy basic) {
+        this.basic = basic;
+        Arrays.fill(standIndex, Float.NaN);
+    }
+
+    // Відхилення Hi-Lo для рішень "взяти/досить" з Illustrious 18
+    public static CountingStrategy hiLo(BasicStrategy basic) {
+        return new CountingStrategy(basic)
+                .withStandIndex(16, false, 10, 0)
+                .withStandIndex(15, false, 10, 4)
+                .withStandIndex(16, false, 9, 5)
+                .withStandIndex(13, false, 2, -1)
+                .withStandIndex(13, false, 3, -2)
+                .withStandIndex(12, false, 2, 3)
+                .withStandIndex(12, false, 3, 2)
+                .withStandIndex(12, false, 4, 0)
+                .withStandIndex(12, false, 5, -2)
+                .withStandIndex(12, false, 6, -1);
+    }
+
+    public CountingStrategy withStandIndex(int total, boolean soft, int dealerUpValue, float index) {
+        standIndex[BasicStrategy.index(total, soft, dealerUpValue)] = index;
+        return this;
+    }
+
+    @Override
+    public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+        return basic.shouldHit(hand, dealerVisibleCard);
+    }
+
+    // Відхилення стосуються лише рішень "взяти/досить"; подвоєння,
+    // розділення та капітуляція беруться з базової стратегії
+    @Override
+    public Action decide(DecisionContext context) {
+        Action action = basic.decide(context);
+        if (action != Action.HIT && action != Action.STAND) return action;
+        return shouldHit(context) ? Action.HIT : Action.STAND;
+    }
+
+    // Страховка вигідна, коли в шузі лишилося досить десяток (індекс Hi-Lo)
+    @Override
+    public boolean takeInsurance(DecisionContext context) {
+        return context.getCounter() != null && context.getTrueCount() >= INSURANCE_INDEX;
+    }
+
+    @Override
+    public boolean shouldHit(DecisionContext context) {
+        Hand hand = context.getHand();
+        ICard upCard = context.getDealerUpCard();
+        int total = hand.calculateScore();
+        if (context.getCounter() == null || upCard == null || total >= GameConfig.BLACKJACK_LIMIT) {
+            return basic.shouldHit(hand, upCard);
+        }
+
+        float index = standIndex[BasicStrategy.index(total, hand.isSoft(), upCard.getValue())];
+        if (Float.isNaN(index)) {
+            return basic.shouldHit(hand, upCard);
+        }
+        return context.getTrueCount() < index;
+    }
+}
\ No newline at end of file
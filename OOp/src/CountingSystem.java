@@ -0,0 +1,65 @@
+import java.util.Arrays;
+
+// Таблиця тегів системи рахунку карт: внесок кожного рангу в поточний рахунок
+public class CountingSystem {
+    public static final CountingSystem HI_LO = new CountingSystem("Hi-Lo",
+            new int[]{1, 1, 1, 1, 1, 0, 0, 0, -1, -1, -1, -1, -1});
+    public static final CountingSystem HI_OPT_II = new CountingSystem("Hi-Opt II",
+            new int[]{1, 1, 2, 2, 1, 1, 0, 0, -2, -2, -2, -2, 0});
+    public static final CountingSystem OMEGA_II = new CountingSystem("Omega II",
+            new int[]{1, 1, 2, 2, 2, 1, 0, -1, -2, -2, -2, -2, 0});
+
+    private final String name;
+    // Тег для кожного коду карти, щоб облік карти був одним зверненням до масиву
+    private final int[] tagsByCode = new int[CardCode.COUNT];
+    private final int[] tagsByRank;
+
+    // tags - по одному тегу на кожен Rank у порядку оголошення
+    public CountingSystem(String name, int[] tags) {
+        if (tags.length != CardCode.RANKS) {
+            throw new IllegalArgumentException("Потрібно " + CardCode.RANKS + " тегів, отримано " + tags.length);
+        }
+        this.name = name;
+        this.tagsByRank = tags.clone();
+        for (int code = 0; code < CardCode.COUNT; code++) {
+            tagsByCode[code] = tags[CardCode.rank(code).ordinal()];
+        }
+    }
+
+    // Формат: "2=1,3=1,...,ACE=-1"; ранги без тегу отримують 0
+    public static CountingSystem parse(String name, String spec) {
+        int[] tags = new int[CardCode.RANKS];
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) throw new IllegalArgumentException("Невірний тег: " + entry);
+            tags[parseRank(parts[0].trim()).ordinal()] = Integer.parseInt(parts[1].trim());
+        }
+        return new CountingSystem(name, tags);
+    }
+
+    private static Rank parseRank(String text) {
+        for (Rank rank : Rank.values()) {
+            if (rank.name().equalsIgnoreCase(text) || (rank.getValue() < 10 && text.equals(String.valueOf(rank.getValue())))) {
+                return rank;
+            }
+        }
+        throw new IllegalArgumentException("Невідомий ранг: " + text);
+    }
+
+    public int tagOf(int cardCode) {
+        return tagsByCode[cardCode];
+    }
+
+    public int tagOf(Rank rank) {
+        return tagsByRank[rank.ordinal()];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + Arrays.toString(tagsByRank);
+    }
+}
\ No newline at end of file
@@ -1,10 +1,21 @@
 public class Dealer extends Participant {
+    private final RuleSet rules;
+
     public Dealer() {
-        super("Дилер", new DealerStrategy());
+        this(RuleSet.DEFAULT);
+    }
+
+    public Dealer(RuleSet rules) {
+        super("Дилер", new DealerStrategy(rules));
+        this.rules = rules;
     }
 
     public ICard getVisibleCard() {
         if (hand.getCards().isEmpty()) return null;
         return hand.getCards().get(0);
     }
+
+    public RuleSet getRules() {
+        return rules;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Точний розподіл фінальних очок дилера для заданого складу колоди
+public class DealerProbabilityCalculator {
+    private static final int LIMIT = GameConfig.BLACKJACK_LIMIT;
+    public static final int BUST = LIMIT + 1;
+    public static final int MAX_DECKS = 15;
+    private static final int MAX_CACHE_ENTRIES = 1 << 20;
+
+    // Кількість карт за значенням 1..10 (туз = 1), упаковується в один long:
+    // по 6 біт на значення 1..9 (біти 0..53) і 10 біт на десятки (біти 54..63)
+    private static final int MAX_COUNT = (1 << 6) - 1;
+    private static final int MAX_TEN_COUNT = (1 << 10) - 1;
+
+    private final RuleSet rules;
+    private final int[] counts = new int[11];
+    private final int[] shifts = new int[11];
+    private int total;
+    private long compositionKey;
+
+    // Окремий кеш на кожен стан руки дилера (тверді очки, наявність туза)
+    private final List<Map<Long, double[]>> cache = new ArrayList<>();
+    private int cacheEntries;
+
+    public DealerProbabilityCalculator(int deckCount) {
+        this(RuleSet.DEFAULT.with(RuleSet.DECKS, deckCount));
+    }
+
+    // Повний шуз за правилами: кількість колод і правило дилера щодо м'яких 17
+    public DealerProbabilityCalculator(RuleSet rules) {
+        this(rules, checkedDecks(rules.decks()) * Suit.values().length);
+    }
+
+    private DealerProbabilityCalculator(RuleSet rules, int copiesPerRank) {
+        this.rules = rules;
+        for (int value = 1; value <= 10; value++) {
+            shifts[value] = (value - 1) * 6;
+        }
+        for (int state = 0; state < (LIMIT + 1) * 2; state++) {
+            cache.add(new HashMap<>());
+        }
+        for (Rank rank : Rank.values()) {
+            for (int i = 0; i < copiesPerRank; i++) {
+                addCard(rank);
+            }
+        }
+    }
+
+    private static int checkedDecks(int deckCount) {
+        if (deckCount < 1 || deckCount > MAX_DECKS) {
+            throw new IllegalArgumentException("Підтримується від 1 до " + MAX_DECKS + " колод");
+        }
+        return deckCount;
+    }
+
+    // Склад береться з карт, що ще лишилися в колоді
+    public static DealerProbabilityCalculator forRemaining(Deck deck) {
+        return forRemaining(deck, RuleSet.DEFAULT);
+    }
+
+    public static DealerProbabilityCalculator forRemaining(Deck deck, RuleSet rules) {
+        if (deck.size() > CardCode.COUNT * MAX_DECKS) {
+            throw new IllegalArgumentException("Підтримується не більше " + MAX_DECKS + " колод");
+        }
+        return of(rules, deck.remainingRankCounts());
+    }
+
+    // Довільний склад: кількість карт кожного рангу в порядку Rank.values()
+    public static DealerProbabilityCalculator of(RuleSet rules, int[] rankCounts) {
+        Rank[] ranks = Rank.values();
+        if (rankCounts.length != ranks.length) {
+            throw new IllegalArgumentException("Очікується " + ranks.length + " кількостей рангів: " + rankCounts.length);
+        }
+        for (int i = 0; i < ranks.length; i++) {
+            if (rankCounts[i] < 0) throw new IllegalArgumentException("Від'ємна кількість карт " + ranks[i]);
+        }
+        // Межу кількості для кожного значення перевіряє addCard
+        DealerProbabilityCalculator calculator = new DealerProbabilityCalculator(rules, 0);
+        for (int i = 0; i < ranks.length; i++) {
+            for (int n = 0; n < rankCounts[i]; n++) {
+                calculator.addCard(ranks[i]);
+            }
+        }
+        return calculator;
+    }
+
+    public static int valueOf(Rank rank) {
+        return rank == Rank.ACE ? 1 : rank.getValue();
+    }
+
+    public void addCard(Rank rank) {
+        int value = valueOf(rank);
+        // Більша кількість переповнила б своє поле ключа і злилася з сусіднім складом у кеші
+        if (counts[value] == (value == 10 ? MAX_TEN_COUNT : MAX_COUNT)) {
+            throw new IllegalArgumentException("Забагато карт зі значенням " + value + " для ключа складу");
+        }
+        counts[value]++;
+        total++;
+        compositionKey += 1L << shifts[value];
+    }
+
+    public void removeCard(Rank rank) {
+        int value = valueOf(rank);
+        if (counts[value] == 0) {
+            throw new IllegalStateException("У колоді немає карти " + rank);
+        }
+        removeValue(value);
+    }
+
+    public int getCount(int value) {
+        return counts[value];
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void clearCache() {
+        for (Map<Long, double[]> states : cache) states.clear();
+        cacheEntries = 0;
+    }
+
+    // Відкрита карта дилера вже має бути вилучена зі складу колоди.
+    // Результат: індекс - фінальні очки дилера, BUST - перебір
+    public double[] dealerOutcomes(ICard upCard) {
+        return dealerOutcomes(upCard.getValue());
+    }
+
+    public double[] dealerOutcomes(int upValue) {
+        boolean ace = upValue == 11;
+        int hard = ace ? 1 : upValue;
+        if (stands(hard, ace)) {
+            double[] result = new double[BUST + 1];
+            result[best(hard, ace)] = 1.0;
+            return result;
+        }
+        return draw(hard, ace).clone();
+    }
+
+    private double[] draw(int hard, boolean hasAce) {
+        Map<Long, double[]> memo = cache.get(hard * 2 + (hasAce ? 1 : 0));
+        double[] cached = memo.get(compositionKey);
+        if (cached != null) return cached;
+
+        double[] result = new double[BUST + 1];
+        if (total == 0) {
+            // Карти скінчилися: дилер лишається з поточними очками
+            result[best(hard, hasAce)] = 1.0;
+            return result;
+        }
+
+        for (int value = 1; value <= 10; value++) {
+            if (counts[value] == 0) continue;
+            double probability = (double) counts[value] / total;
+
+            int nextHard = hard + value;
+            boolean nextAce = hasAce || value == 1;
+            if (nextHard > LIMIT) {
+                result[BUST] += probability;
+                continue;
+            }
+            if (stands(nextHard, nextAce)) {
+                result[best(nextHard, nextAce)] += probability;
+                continue;
+            }
+
+            removeValue(value);
+            double[] next = draw(nextHard, nextAce);
+            restoreValue(value);
+            for (int i = 0; i <= BUST; i++) {
+                result[i] += probability * next[i];
+            }
+        }
+
+        if (cacheEntries >= MAX_CACHE_ENTRIES) clearCache();
+        memo.put(compositionKey, result);
+        cacheEntries++;
+        return result;
+    }
+
+    private void removeValue(int value) {
+        counts[value]--;
+        total--;
+        compositionKey -= 1L << shifts[value];
+    }
+
+    private void restoreValue(int value) {
+        counts[value]++;
+        total++;
+        compositionKey += 1L << shifts[value];
+    }
+
+    private boolean stands(int hard, boolean hasAce) {
+        int score = best(hard, hasAce);
+        return !rules.dealerHits(score, score != hard);
+    }
+
+    private static int best(int hard, boolean hasAce) {
+        return hasAce && hard + 10 <= LIMIT ? hard + 10 : hard;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,17 @@
 public class DealerStrategy implements MoveStrategy {
+    private final RuleSet rules;
+
+    public DealerStrategy() {
+        this(RuleSet.DEFAULT);
+    }
+
+    // Дилер бере карту за таблицею правил (H17 або S17)
+    public DealerStrategy(RuleSet rules) {
+        this.rules = rules;
+    }
+
     @Override
     public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
-        return hand.calculateScore() < GameConfig.DEALER_STOP_LIMIT;
+        return rules.dealerHits(hand);
     }
 }
\ No newline at end of file
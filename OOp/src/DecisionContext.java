@@ -0,0 +1,60 @@
+// Усе, що стратегія знає на момент рішення. Один екземпляр на учасника
+// оновлюється перед кожним ходом, тож рішення не створює об'єктів
+public class DecisionContext {
+    private Hand hand;
+    private ICard dealerUpCard;
+    private CardCounter counter;
+    private int handIndex;
+    private boolean canDouble;
+    private boolean canSplit;
+    private boolean canSurrender;
+
+    void update(Hand hand, ICard dealerUpCard, CardCounter counter) {
+        update(hand, dealerUpCard, counter, 0, false, false, false);
+    }
+
+    void update(Hand hand, ICard dealerUpCard, CardCounter counter, int handIndex,
+                boolean canDouble, boolean canSplit, boolean canSurrender) {
+        this.hand = hand;
+        this.dealerUpCard = dealerUpCard;
+        this.counter = counter;
+        this.handIndex = handIndex;
+        this.canDouble = canDouble;
+        this.canSplit = canSplit;
+        this.canSurrender = canSurrender;
+    }
+
+    public Hand getHand() {
+        return hand;
+    }
+
+    public ICard getDealerUpCard() {
+        return dealerUpCard;
+    }
+
+    // null, якщо колода не веде рахунок
+    public CardCounter getCounter() {
+        return counter;
+    }
+
+    public double getTrueCount() {
+        return counter != null ? counter.getTrueCount() : 0;
+    }
+
+    // Номер руки гравця (після розділення їх може бути кілька)
+    public int getHandIndex() {
+        return handIndex;
+    }
+
+    public boolean canDouble() {
+        return canDouble;
+    }
+
+    public boolean canSplit() {
+        return canSplit;
+    }
+
+    public boolean canSurrender() {
+        return canSurrender;
+    }
+}
\ No newline at end of file
@@ -1,42 +1,188 @@
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class Deck {
-    final private List<ICard> cards;
+    // Порядок карт у вигляді кодів CardCode; все до курсора вже роздано
+    final private byte[] cards;
+    // Екземпляри карт для кожного коду; фабрики повертають канонічні карти зі своєї CardTable
+    final private ICard[] views = new ICard[CardCode.COUNT];
+    private int cursor;
+    // Зростає з кожною зміною порядку карт; за ним CheckpointStore бачить перемішування
+    private int orderVersion;
     private CardFactory factory;
+    // Джерело випадковості для перемішування; без нього - ThreadLocalRandom поточного потоку
+    private RandomGenerator random;
+    private GameMetrics metrics;
+    private CardCounter counter;
 
     public Deck(CardFactory factory) {
-        this.factory = factory;
-        this.cards = new ArrayList<>();
-        refill();
+        this(factory, 1);
+    }
+
+    protected Deck(CardFactory factory, int deckCount) {
+        if (deckCount < 1) throw new IllegalArgumentException("Кількість колод має бути додатною");
+        this.cards = new byte[CardCode.COUNT * deckCount];
+        setFactory(factory);
+    }
+
+    // Колода з відрізною картою грає як шуз (і одна колода теж, щоб рахунок карт мав сенс);
+    // без відрізної карти (проникнення 1) будь-яка кількість колод збирається щораунду,
+    // бо шуз, роздатий до останньої карти, спорожнів би посеред раунду
+    public static Deck create(CardFactory factory, RuleSet rules) {
+        return rules.penetration() < 1
+                ? new Shoe(factory, rules.decks(), rules.penetration())
+                : new Deck(factory, rules.decks());
     }
 
     public void setFactory(CardFactory factory) {
         this.factory = factory;
+        if (factory != null) {
+            for (Suit suit : Suit.values()) {
+                for (Rank rank : Rank.values()) {
+                    views[CardCode.encode(suit, rank)] = factory.createCard(suit, rank);
+                }
+            }
+        }
         refill();
     }
 
-    public void refill() {
-        cards.clear();
-        if (factory == null) return;
+    // Детерміноване джерело (наприклад, SplittableRandom із сідом) робить
+    // порядок карт відтворюваним; колода одразу перезбирається з ним
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+        refill();
+    }
 
-        for (Suit suit : Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                cards.add(factory.createCard(suit, rank));
-            }
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Лічильник карт бачить кожну взяту карту і скидається при перезбиранні
+    public void setCounter(CardCounter counter) {
+        this.counter = counter;
+        if (counter != null) counter.reset(remaining());
+    }
+
+    public CardCounter getCounter() {
+        return counter;
+    }
+
+    public void refill() {
+        if (factory == null) {
+            cursor = cards.length;
+            return;
+        }
+        // Перемішування завжди починається з упорядкованої колоди, тож
+        // результат залежить лише від джерела випадковості
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % CardCode.COUNT);
         }
+        cursor = 0;
+        if (counter != null) counter.reset(cards.length);
         shuffle();
     }
 
+    // Підготовка до нового раунду: звичайна колода щоразу збирається заново
+    public void prepareRound() {
+        refill();
+    }
+
     public void shuffle() {
-        Collections.shuffle(cards);
+        // Fisher–Yates на місці, лише серед карт, що ще лишилися
+        orderVersion++;
+        RandomGenerator random = this.random != null ? this.random : ThreadLocalRandom.current();
+        for (int i = cards.length - 1; i > cursor; i--) {
+            int j = cursor + random.nextInt(i - cursor + 1);
+            byte tmp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = tmp;
+        }
     }
 
-    public ICard draw() throws DeckEmptyException {
-        if (cards.isEmpty()) {
+    public int drawCode() throws DeckEmptyException {
+        int code = take();
+        if (counter != null) counter.onCard(code);
+        return code;
+    }
+
+    // Закрита карта дилера: лічильник бачить її лише після revealHidden
+    public int drawHiddenCode() throws DeckEmptyException {
+        int code = take();
+        if (counter != null) counter.onHiddenCard(code);
+        return code;
+    }
+
+    public void revealHidden() {
+        if (counter != null) counter.reveal();
+    }
+
+    // Уже роздана карта знову стає закритою для лічильника (відновлення зі знімка)
+    void hideDealt(int code) {
+        if (counter != null) counter.hide(code);
+    }
+
+    // Єдине джерело карт для відкритої й закритої роздачі; підкласи замінюють саме його
+    protected int take() throws DeckEmptyException {
+        if (cursor >= cards.length) {
+            if (metrics != null) metrics.recordDeckExhausted();
             throw new DeckEmptyException();
         }
-        return cards.remove(0);
+        if (metrics != null) metrics.recordDraw();
+        return cards[cursor++];
+    }
+
+    public ICard draw() throws DeckEmptyException {
+        return views[drawCode()];
+    }
+
+    public ICard cardFor(int code) {
+        return views[code];
+    }
+
+    // Кількість карт кожного рангу серед тих, що ще не роздані
+    public int[] remainingRankCounts() {
+        int[] counts = new int[CardCode.RANKS];
+        for (int i = cursor; i < cards.length; i++) {
+            counts[CardCode.rank(cards[i]).ordinal()]++;
+        }
+        return counts;
+    }
+
+    public int remaining() {
+        return cards.length - cursor;
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    // Внутрішній порядок карт і курсор - лише для знімка стола, без копіювання
+    byte[] order() {
+        return cards;
+    }
+
+    int cursor() {
+        return cursor;
+    }
+
+    int orderVersion() {
+        return orderVersion;
+    }
+
+    // Відновлює порядок зі знімка; лічильник перераховується за вже роздані карти
+    void restore(byte[] order, int cursor) {
+        if (order.length != cards.length || cursor < 0 || cursor > cards.length) {
+            throw new IllegalArgumentException("Знімок колоди не відповідає її розміру: " + order.length);
+        }
+        for (byte code : order) {
+            if (code < 0 || code >= CardCode.COUNT) throw new IllegalArgumentException("Невідомий код карти: " + code);
+        }
+        System.arraycopy(order, 0, cards, 0, cards.length);
+        this.cursor = cursor;
+        orderVersion++;
+        if (counter != null) {
+            counter.reset(cards.length);
+            for (int i = 0; i < cursor; i++) counter.onCard(cards[i]);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+// Гравець подвоїв ставку та отримав рівно одну карту
+public record DoubleEvent(int tableId, long roundId, int hand, int cardCode, int score) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onDouble(this);
+    }
+}
\ No newline at end of file
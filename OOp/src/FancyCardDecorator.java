@@ -1,10 +1,13 @@
 public class FancyCardDecorator extends CardDecorator {
+    private final String displayString;
+
     public FancyCardDecorator(ICard card) {
         super(card);
+        this.displayString = "[" + card.getDisplayString() + "]";
     }
 
     @Override
     public String getDisplayString() {
-        return "[" + decoratedCard.getDisplayString() + "]";
+        return displayString;
     }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 public class FancyCardFactory implements CardFactory {
+    private static final CardTable CARDS = SimpleCardFactory.CARDS.decorate(FancyCardDecorator::new);
+
     @Override
     public ICard createCard(Suit suit, Rank rank) {
-        return new FancyCardDecorator(new SimpleCard(suit, rank));
+        return CARDS.get(suit, rank);
     }
 }
\ No newline at end of file
@@ -1,4 +1,29 @@
 public class GameConfig {
     public static final int BLACKJACK_LIMIT = 21;
+    // Значення правил за замовчуванням; стіл читає їх через RuleSet
     public static final int DEALER_STOP_LIMIT = 17;
+    public static final boolean DEALER_HITS_SOFT_17 = false;
+    public static final int SHOE_DECKS = 6;
+    public static final double SHOE_PENETRATION = 0.75;
+    // Максимум рук у гравця після розділень (і місткість масивів рук)
+    public static final int MAX_HANDS = 4;
+    public static final boolean DOUBLE_AFTER_SPLIT = true;
+    public static final boolean HIT_SPLIT_ACES = false;
+    public static final boolean LATE_SURRENDER = true;
+    public static final boolean INSURANCE = true;
+
+    // Гроші зберігаються як long у копійках (фіксована кома, без BigDecimal)
+    public static final long MONEY_SCALE = 100;
+    public static final long DEFAULT_BET = 10 * MONEY_SCALE;
+    public static final long DEFAULT_BANKROLL = 1_000 * MONEY_SCALE;
+    // Ліміти ставок столу за замовчуванням
+    public static final long MIN_BET = MONEY_SCALE;
+    public static final long MAX_BET = 500 * MONEY_SCALE;
+    // Виплати як дроби чисельник/знаменник: блекджек 3:2, страховка 2:1,
+    // при капітуляції повертається половина ставки
+    public static final long BLACKJACK_PAYOUT_NUMERATOR = 3;
+    public static final long BLACKJACK_PAYOUT_DENOMINATOR = 2;
+    public static final long INSURANCE_PAYOUT = 2;
+    public static final long SURRENDER_REFUND_NUMERATOR = 1;
+    public static final long SURRENDER_REFUND_DENOMINATOR = 2;
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+// Типізована подія гри з примітивними полями; текст формують лише адаптери
+public interface GameEvent {
+    int PLAYER = 0;
+    int DEALER = 1;
+
+    void deliver(GameEventObserver observer);
+}
\ No newline at end of file
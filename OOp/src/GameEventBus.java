@@ -0,0 +1,127 @@
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+// Обмежений кільцевий буфер подій без блокувань: столи публікують,
+// фоновий потік забирає події пачками і передає їх спостерігачам
+public class GameEventBus implements AutoCloseable {
+    private static final int MAX_BATCH = 256;
+    private static final long IDLE_PARK_NANOS = 100_000;
+
+    private final AtomicReferenceArray<GameEvent> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private volatile long delivered;
+    private volatile boolean running = true;
+
+    private final List<GameEventObserver> observers = new CopyOnWriteArrayList<>();
+    private final Thread consumer;
+
+    public GameEventBus() {
+        this(1 << 16);
+    }
+
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Розмір буфера має бути степенем двійки");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.consumer = new Thread(this::drainLoop, "game-event-bus");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    public void addObserver(GameObserver observer) {
+        observers.add(observer instanceof GameEventObserver eventObserver
+                ? eventObserver
+                : GameEventFormatter.forObserver(observer, new SimpleCardFactory()));
+    }
+
+    public void addEventObserver(GameEventObserver observer) {
+        observers.add(observer);
+    }
+
+    public boolean hasObservers() {
+        return !observers.isEmpty();
+    }
+
+    // Якщо буфер заповнений, видавець чекає, поки споживач звільнить місце
+    public void publish(GameEvent event) {
+        while (true) {
+            long position = tail.get();
+            if (position - head >= slots.length()) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                slots.lazySet((int) (position & mask), event);
+                return;
+            }
+        }
+    }
+
+    private void drainLoop() {
+        GameEvent[] batch = new GameEvent[MAX_BATCH];
+        while (running || head != tail.get()) {
+            int count = drain(batch);
+            if (count == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            dispatch(batch, count);
+            delivered += count;
+        }
+    }
+
+    private int drain(GameEvent[] batch) {
+        long position = head;
+        int count = 0;
+        while (count < batch.length) {
+            int index = (int) (position & mask);
+            GameEvent event = slots.get(index);
+            if (event == null) break;
+            slots.lazySet(index, null);
+            batch[count++] = event;
+            position++;
+        }
+        head = position;
+        return count;
+    }
+
+    private void dispatch(GameEvent[] batch, int count) {
+        for (int i = 0; i < count; i++) {
+            for (GameEventObserver observer : observers) {
+                // Помилка одного спостерігача не зупиняє єдиного споживача: інакше буфер
+                // заповниться і всі столи зависнуть у publish
+                try {
+                    batch[i].deliver(observer);
+                } catch (RuntimeException e) {
+                    System.err.println("Спостерігач " + observer.getClass().getName() + " не обробив подію: " + e);
+                }
+            }
+            batch[i] = null;
+        }
+    }
+
+    // Дочекатися, поки всі опубліковані події будуть доставлені
+    public void flush() {
+        long target = tail.get();
+        while (delivered < target && consumer.isAlive()) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,238 @@
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Адаптер: перетворює типізовані події на звичні текстові повідомлення гри.
+// Руки відновлюються з подій роздачі та взяття карт окремо для кожного стола.
+// Рядок збирається в буфері стола з готових байтів UTF-8; String створюється,
+// лише якщо спостерігач приймає текст (emit(String))
+public abstract class GameEventFormatter implements GameEventObserver {
+    private static final byte[][] NAMES = {TextBuffer.utf8("Гравець"), TextBuffer.utf8("Дилер")};
+    private static final byte[] HAND = TextBuffer.utf8("Рука ");
+    private static final byte[] DEAL_DONE = TextBuffer.utf8("Роздача завершена.");
+    private static final byte[] DEALER_TURN = TextBuffer.utf8("\n--- Хід Дилера ---");
+    private static final byte[] RECEIVES = TextBuffer.utf8(" отримує карту: ");
+    private static final byte[] HITS = TextBuffer.utf8(" взяв карту: ");
+    private static final byte[] DOUBLES = TextBuffer.utf8(" подвоює ставку: ");
+    private static final byte[] CARDS = TextBuffer.utf8(" карти: ");
+    private static final byte[] SCORE = TextBuffer.utf8(" (Очки: ");
+    private static final byte[] SPLITS = TextBuffer.utf8("Гравець розділяє пару.");
+    private static final byte[] SURRENDERS = TextBuffer.utf8("Гравець здається: повертається половина ставки.");
+    private static final byte[] INSURANCE_WON = TextBuffer.utf8("У дилера Блекджек - страховка зіграла.");
+    private static final byte[] INSURANCE_LOST = TextBuffer.utf8("У дилера немає Блекджека - страховка програна.");
+    private static final byte[] HAS_BLACKJACK = TextBuffer.utf8(" має Блекджек!");
+    private static final byte[] PREFIX_END = TextBuffer.utf8(": ");
+    private static final byte[] PLAYER_BUST = TextBuffer.utf8("ПЕРЕБІР! Ви програли.");
+    private static final byte[] SURRENDERED = TextBuffer.utf8("Ви здалися.");
+    private static final byte[] RESULT = TextBuffer.utf8("\n--- РЕЗУЛЬТАТ ---");
+    private static final byte[] PLAYER_SCORE = TextBuffer.utf8("Гравець: ");
+    private static final byte[] DEALER_SCORE = TextBuffer.utf8(" | Дилер: ");
+    private static final byte[] DEALER_BUST = TextBuffer.utf8("Дилер згорів! Ви виграли!");
+    private static final byte[] PLAYER_WIN = TextBuffer.utf8("Ви перемогли!");
+    private static final byte[] DEALER_WIN = TextBuffer.utf8("Дилер переміг.");
+    private static final byte[] PUSH = TextBuffer.utf8("Нічия.");
+    private static final byte[] WON = TextBuffer.utf8("Виграш: ");
+    private static final byte[] LOST = TextBuffer.utf8("Програш: ");
+    private static final byte[] BALANCE = TextBuffer.utf8(" | Баланс: ");
+    // Стани завершених раундів перевикористовуються іншими столами
+    private static final int MAX_SPARE = 256;
+
+    private final CardRenderer renderer;
+    private final Map<Integer, TableHands> tables = new ConcurrentHashMap<>();
+    private final ArrayDeque<TableHands> spare = new ArrayDeque<>();
+
+    protected GameEventFormatter(CardFactory factory) {
+        this.renderer = CardRenderer.of(factory);
+    }
+
+    public static GameEventFormatter forObserver(GameObserver observer, CardFactory factory) {
+        return new GameEventFormatter(factory) {
+            @Override
+            protected void emit(String message) {
+                observer.update(message);
+            }
+        };
+    }
+
+    protected abstract void emit(String message);
+
+    // Буфер дійсний лише під час виклику; спостерігач, що пише байти, не створює String
+    protected void emit(TextBuffer line) {
+        emit(line.toString());
+    }
+
+    @Override
+    public void onMessage(MessageEvent event) {
+        emit(event.text());
+    }
+
+    @Override
+    public void onDeal(DealEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        int slot = slot(event.participant(), event.hand());
+        hands.add(slot, event.cardCode());
+        // Друга карта руки після розділення
+        if (event.participant() == GameEvent.PLAYER && hands.split && hands.turnStarted) {
+            TextBuffer line = label(hands, GameEvent.PLAYER, event.hand()).append(RECEIVES);
+            emit(renderer.appendCard(line, event.cardCode()));
+            emitHand(hands, GameEvent.PLAYER, event.hand(), event.score());
+        }
+    }
+
+    @Override
+    public void onTurnStart(TurnStartEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        if (event.participant() == GameEvent.PLAYER) {
+            if (!hands.turnStarted) emit(hands.line.clear().append(DEAL_DONE));
+            hands.turnStarted = true;
+        } else {
+            emit(hands.line.clear().append(DEALER_TURN));
+        }
+        // Руку після розділення вже показано разом із її другою картою
+        if (event.hand() == 0) emitHand(hands, event.participant(), event.hand(), event.score());
+    }
+
+    @Override
+    public void onHit(HitEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        hands.add(slot(event.participant(), event.hand()), event.cardCode());
+        emit(renderer.appendCard(label(hands, event.participant(), event.hand()).append(HITS), event.cardCode()));
+        emitHand(hands, event.participant(), event.hand(), event.score());
+    }
+
+    @Override
+    public void onDouble(DoubleEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        hands.add(event.hand(), event.cardCode());
+        emit(renderer.appendCard(label(hands, GameEvent.PLAYER, event.hand()).append(DOUBLES), event.cardCode()));
+        emitHand(hands, GameEvent.PLAYER, event.hand(), event.score());
+    }
+
+    @Override
+    public void onSplit(SplitEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        hands.split(event.hand(), event.newHand());
+        emit(hands.line.clear().append(SPLITS));
+    }
+
+    @Override
+    public void onSurrender(SurrenderEvent event) {
+        emit(hands(event.tableId(), event.roundId()).line.clear().append(SURRENDERS));
+    }
+
+    @Override
+    public void onInsurance(InsuranceEvent event) {
+        emit(hands(event.tableId(), event.roundId()).line.clear().append(event.won() ? INSURANCE_WON : INSURANCE_LOST));
+    }
+
+    @Override
+    public void onBlackjack(BlackjackEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        emit(label(hands, event.participant(), event.hand()).append(HAS_BLACKJACK));
+    }
+
+    @Override
+    public void onOutcome(OutcomeEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        if (event.outcome() == RoundOutcome.PLAYER_BUST) {
+            emit(prefix(hands, event.hand()).append(PLAYER_BUST));
+            return;
+        }
+        if (event.outcome() == RoundOutcome.PLAYER_SURRENDER) {
+            emit(prefix(hands, event.hand()).append(SURRENDERED));
+            return;
+        }
+        if (!hands.resultShown) {
+            emit(hands.line.clear().append(RESULT));
+            hands.resultShown = true;
+        }
+        emit(prefix(hands, event.hand()).append(PLAYER_SCORE).append(event.playerScore())
+                .append(DEALER_SCORE).append(event.dealerScore()));
+        emit(hands.line.clear().append(switch (event.outcome()) {
+            case DEALER_BUST -> DEALER_BUST;
+            case PLAYER_WIN -> PLAYER_WIN;
+            case DEALER_WIN -> DEALER_WIN;
+            default -> PUSH;
+        }));
+    }
+
+    @Override
+    public void onRoundEnd(RoundEndEvent event) {
+        TableHands hands = hands(event.tableId(), event.roundId());
+        emit(hands.line.clear().append(event.net() >= 0 ? WON : LOST).appendMoney(Math.abs(event.net()))
+                .append(BALANCE).appendMoney(event.balance()));
+        tables.remove(event.tableId());
+        synchronized (spare) {
+            if (spare.size() < MAX_SPARE) spare.push(hands);
+        }
+    }
+
+    private static int slot(int participant, int hand) {
+        return participant == GameEvent.DEALER ? GameConfig.MAX_HANDS : hand;
+    }
+
+    // Очищає буфер стола і починає рядок з назви руки
+    private static TextBuffer label(TableHands hands, int participant, int hand) {
+        TextBuffer line = hands.line.clear();
+        return participant == GameEvent.PLAYER && hands.split
+                ? line.append(HAND).append(hand + 1)
+                : line.append(NAMES[participant]);
+    }
+
+    private static TextBuffer prefix(TableHands hands, int hand) {
+        return hands.split ? label(hands, GameEvent.PLAYER, hand).append(PREFIX_END) : hands.line.clear();
+    }
+
+    private void emitHand(TableHands hands, int participant, int hand, int score) {
+        int slot = slot(participant, hand);
+        TextBuffer line = label(hands, participant, hand).append(CARDS);
+        renderer.appendHand(line, hands.codes[slot], hands.sizes[slot]);
+        emit(line.append(SCORE).append(score).append(')'));
+    }
+
+    private TableHands hands(int tableId, long roundId) {
+        TableHands hands = tables.get(tableId);
+        if (hands == null) {
+            synchronized (spare) {
+                hands = spare.poll();
+            }
+            if (hands == null) hands = new TableHands();
+            // Події одного стола надходять послідовно, тож перевірка й вставка не змагаються
+            tables.put(tableId, hands);
+            hands.reset(roundId);
+        } else if (hands.roundId != roundId) {
+            hands.reset(roundId);
+        }
+        return hands;
+    }
+
+    // Коди карт кожної руки гравця та дилера (останній слот) у поточному раунді
+    private static class TableHands {
+        private long roundId = -1;
+        private final int[][] codes = new int[GameConfig.MAX_HANDS + 1][CardCode.COUNT];
+        private final int[] sizes = new int[GameConfig.MAX_HANDS + 1];
+        private final TextBuffer line = new TextBuffer();
+        private boolean split;
+        private boolean turnStarted;
+        private boolean resultShown;
+
+        void reset(long roundId) {
+            this.roundId = roundId;
+            Arrays.fill(sizes, 0);
+            split = false;
+            turnStarted = false;
+            resultShown = false;
+        }
+
+        void add(int slot, int code) {
+            codes[slot][sizes[slot]++] = code;
+        }
+
+        void split(int hand, int newHand) {
+            split = true;
+            codes[newHand][0] = codes[hand][--sizes[hand]];
+            sizes[newHand] = 1;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+// Отримує типізовані події гри без розбору тексту
+public interface GameEventObserver {
+    default void onMessage(MessageEvent event) {
+    }
+
+    default void onDeal(DealEvent event) {
+    }
+
+    default void onTurnStart(TurnStartEvent event) {
+    }
+
+    default void onHit(HitEvent event) {
+    }
+
+    default void onStand(StandEvent event) {
+    }
+
+    default void onBust(BustEvent event) {
+    }
+
+    default void onBlackjack(BlackjackEvent event) {
+    }
+
+    default void onDouble(DoubleEvent event) {
+    }
+
+    default void onSplit(SplitEvent event) {
+    }
+
+    default void onSurrender(SurrenderEvent event) {
+    }
+
+    default void onInsurance(InsuranceEvent event) {
+    }
+
+    default void onOutcome(OutcomeEvent event) {
+    }
+
+    default void onRoundEnd(RoundEndEvent event) {
+    }
+}
\ No newline at end of file
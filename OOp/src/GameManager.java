@@ -1,111 +1,440 @@
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class GameManager {
     private static GameManager instance;
     final private Deck deck;
     private Participant player;
     private Participant dealer;
-    final private List<GameObserver> observers = new ArrayList<>();
+    // Спостерігачів можна додавати, поки стіл уже грає на своєму потоці
+    final private List<GameEventObserver> observers = new CopyOnWriteArrayList<>();
     private CardFactory cardFactory;
+    private GameEventBus eventBus;
+    private GameMetrics metrics;
+    private int tableId;
+    private long roundId;
+    private final RoundResult result = new RoundResult();
+    private RuleSet rules;
+    // Стан незавершеного раунду, потрібний для знімка: рука на ході та страховка
+    private int turnHand = TableSnapshot.BETWEEN_ROUNDS;
+    private boolean insured;
+    private boolean pendingRound;
+    private CheckpointStore checkpoints;
 
     private GameManager() {
         this.cardFactory = new SimpleCardFactory();
         this.deck = new Deck(cardFactory);
+        this.rules = RuleSet.DEFAULT;
     }
 
-    public static GameManager getInstance() {
+    // Окремий стіл без синглтона та консолі (наприклад, для симуляції)
+    public GameManager(Deck deck, Participant player, Dealer dealer) {
+        this.deck = deck;
+        this.player = player;
+        this.dealer = dealer;
+        this.rules = dealer.getRules();
+    }
+
+    // Стіл з власними правилами; дилер створюється під ці правила
+    public GameManager(Deck deck, Participant player, RuleSet rules) {
+        this(deck, player, new Dealer(rules));
+    }
+
+    public static synchronized GameManager getInstance() {
         if (instance == null) instance = new GameManager();
         return instance;
     }
 
+    public RuleSet getRules() {
+        return rules;
+    }
+
     public void setCardFactory(CardFactory factory) {
         this.cardFactory = factory;
         this.deck.setFactory(factory);
     }
 
+    // Метрики вмикаються лише за потреби; без них стіл не заміряє час
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+        this.deck.setMetrics(metrics);
+    }
+
+    public void setTableId(int tableId) {
+        this.tableId = tableId;
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    // Стіл записує контрольні точки між раундами та перед кожним рішенням гравця
+    public void setCheckpointStore(CheckpointStore checkpoints) {
+        this.checkpoints = checkpoints;
+    }
+
+    // Позачергова контрольна точка між раундами (стіл зупиняється)
+    public void writeCheckpoint() {
+        if (checkpoints != null) checkpoints.write(this);
+    }
+
+    // Лише з потоку стола або поки він чекає на рішення гравця
+    public TableSnapshot snapshot() {
+        return TableSnapshot.of(this);
+    }
+
+    // Колода має бути того ж розміру; незавершений раунд продовжує resumeRound
+    public void restore(TableSnapshot snapshot) {
+        snapshot.applyTo(this);
+        this.tableId = snapshot.getTableId();
+        this.roundId = snapshot.getRoundId();
+        this.turnHand = snapshot.getTurnHand();
+        this.insured = snapshot.isInsured();
+        this.pendingRound = snapshot.isRoundInProgress();
+    }
+
+    public boolean hasPendingRound() {
+        return pendingRound;
+    }
+
+    // Догравання раунду, відновленого зі знімка, з руки, що чекала на рішення
+    public RoundResult resumeRound() throws GameException {
+        if (!pendingRound) throw new IllegalStateException("Немає незавершеного раунду");
+        pendingRound = false;
+        result.reset(player.getBankroll().getBet());
+
+        long startTime = metrics != null ? System.nanoTime() : 0;
+        try {
+            RoundResult outcome = finishRound(turnHand);
+            if (metrics != null) metrics.recordRound(outcome, System.nanoTime() - startTime);
+            return outcome;
+        } catch (GameException e) {
+            if (metrics != null) metrics.recordError();
+            throw e;
+        }
+    }
+
+    Deck getDeck() {
+        return deck;
+    }
+
+    Participant getPlayer() {
+        return player;
+    }
+
+    Participant getDealer() {
+        return dealer;
+    }
+
+    long getRoundId() {
+        return roundId;
+    }
+
+    int getTurnHand() {
+        return turnHand;
+    }
+
+    boolean isInsured() {
+        return insured;
+    }
+
+    // Текстові спостерігачі отримують повідомлення через форматувальник
     public void addObserver(GameObserver observer) {
+        observers.add(observer instanceof GameEventObserver eventObserver
+                ? eventObserver
+                : GameEventFormatter.forObserver(observer, new SimpleCardFactory()));
+    }
+
+    public void addEventObserver(GameEventObserver observer) {
         observers.add(observer);
     }
 
-    private void notifyObservers(String message) {
-        for (GameObserver observer : observers) {
-            observer.update(message);
+    // Події передаються спостерігачам асинхронно через шину
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    private boolean hasListeners() {
+        return !observers.isEmpty() || (eventBus != null && eventBus.hasObservers());
+    }
+
+    private void publish(GameEvent event) {
+        if (eventBus != null) {
+            eventBus.publish(event);
+        }
+        for (GameEventObserver observer : observers) {
+            event.deliver(observer);
         }
     }
 
     public void start() {
-        notifyObservers("--- БЛЕКДЖЕК PRO STARTED ---");
+        if (hasListeners()) publish(MessageEvent.STARTED);
 
         this.player = ParticipantFactory.create("PLAYER");
         this.dealer = ParticipantFactory.create("DEALER");
+        this.rules = ((Dealer) dealer).getRules();
 
-        this.deck.refill();
+        this.deck.prepareRound();
 
         try {
-            playRound();
+            playMeasuredRound();
         } catch (GameException e) {
-            notifyObservers("Критична помилка гри: " + e.getMessage());
+            publish(new MessageEvent("Критична помилка гри: " + e.getMessage()));
         }
     }
 
-    private void playRound() throws GameException {
+    public RoundResult playHeadlessRound() throws GameException {
+        player.resetHands();
+        dealer.resetHands();
+        deck.prepareRound();
+
+        return playMeasuredRound();
+    }
+
+    private RoundResult playMeasuredRound() throws GameException {
+        if (metrics == null) return playRound();
+
+        long startTime = System.nanoTime();
+        try {
+            RoundResult outcome = playRound();
+            metrics.recordRound(outcome, System.nanoTime() - startTime);
+            return outcome;
+        } catch (GameException e) {
+            metrics.recordError();
+            throw e;
+        }
+    }
+
+    private RoundResult playRound() throws GameException {
+        roundId++;
+        turnHand = TableSnapshot.BETWEEN_ROUNDS;
+        // Ставка за істинним рахунком до роздачі; закрита карта попереднього раунду вже відкрита
+        CardCounter counter = deck.getCounter();
+        if (counter != null && counter.getBetSpread() != null) {
+            long bet = counter.getBetSpread().betFor(counter.getTrueCount());
+            player.getBankroll().setBet(Math.max(rules.minBet(), Math.min(rules.maxBet(), bet)));
+        }
+        result.reset(player.getBankroll().getBet());
         dealInitialCards();
 
-        processParticipantTurn(player, ((Dealer)dealer).getVisibleCard());
+        ICard upCard = ((Dealer)dealer).getVisibleCard();
+        insured = rules.insurance() && upCard.getRank() == Rank.ACE
+                && player.takeInsurance(deck, upCard);
+        return finishRound(0);
+    }
+
+    // Решта раунду від ходу руки firstHand; з цього ж місця продовжується відновлений раунд
+    private RoundResult finishRound(int firstHand) throws GameException {
+        Bankroll bankroll = player.getBankroll();
+        ICard upCard = ((Dealer)dealer).getVisibleCard();
+
+        // Дилер із тузом або десяткою одразу перевіряє блекджек (якщо правила це передбачають)
+        boolean dealerNatural = dealer.getHand().isNatural();
+        if (!(rules.dealerPeek() && dealerNatural)) {
+            for (int i = firstHand; i < player.getHandCount(); i++) {
+                turnHand = i;
+                processPlayerHand(i, upCard);
+            }
+        }
+        turnHand = TableSnapshot.BETWEEN_ROUNDS;
+        // Закрита карта відкривається після ходу гравця: на ході дилера, після
+        // перевірки блекджеку або при розрахунку
+        deck.revealHidden();
 
-        if (player.getHand().isBusted()) {
-            notifyObservers("ПЕРЕБІР! Ви програли.");
-            return;
+        if (hasLiveHand()) {
+            processParticipantTurn(dealer, null);
         }
 
-        notifyObservers("\n--- Хід Дилера ---");
-        processParticipantTurn(dealer, null);
+        if (insured) {
+            result.setInsurance(dealerNatural);
+            if (hasListeners()) publish(new InsuranceEvent(tableId, roundId, dealerNatural));
+        }
 
         determineWinner();
+        if (insured) settleInsurance(dealerNatural);
+        bankroll.settle(result.getNet(), result.getWagered());
+        if (hasListeners()) {
+            publish(new RoundEndEvent(tableId, roundId, result.getHandCount(), result.getNet(), bankroll.getBalance()));
+        }
+        if (checkpoints != null) checkpoints.checkpoint(this);
+        return result;
+    }
+
+    private boolean hasLiveHand() {
+        for (int i = 0; i < player.getHandCount(); i++) {
+            Hand hand = player.getHand(i);
+            if (!hand.isBusted() && !hand.isSurrendered()) return true;
+        }
+        return false;
     }
 
     private void dealInitialCards() throws GameException {
-        player.getHand().addCard(deck.draw());
-        dealer.getHand().addCard(deck.draw());
-        player.getHand().addCard(deck.draw());
-        dealer.getHand().addCard(deck.draw());
+        dealCard(player, GameEvent.PLAYER, 0);
+        dealCard(dealer, GameEvent.DEALER, 0);
+        dealCard(player, GameEvent.PLAYER, 0);
+        int code = dealer.hitHidden(deck);
+        if (hasListeners()) publish(new DealEvent(tableId, roundId, GameEvent.DEALER, 0, code, dealer.getHand().calculateScore()));
+        // Блекджеки рахуються одразу після роздачі: перевірка дилера може завершити раунд
+        // раніше, ніж до руки дійде хід, і тоді блекджек гравця при нічиїй загубився б
+        if (metrics != null) {
+            if (player.getHand().isNatural()) metrics.recordBlackjack();
+            if (dealer.getHand().isNatural()) metrics.recordBlackjack();
+        }
+    }
 
-        notifyObservers("Роздача завершена.");
+    private void dealCard(Participant participant, int who, int index) throws GameException {
+        int code = participant.hit(deck, index);
+        if (hasListeners()) {
+            publish(new DealEvent(tableId, roundId, who, index, code, participant.getHand(index).calculateScore()));
+        }
     }
 
-    private void processParticipantTurn(Participant participant, ICard visibleCard) throws GameException {
+    private void processPlayerHand(int index, ICard upCard) throws GameException {
+        Hand hand = player.getHand(index);
+        // Рука після розділення отримує другу карту на початку свого ходу
+        if (hand.size() == 1) dealCard(player, GameEvent.PLAYER, index);
+        if (hasListeners()) publish(new TurnStartEvent(tableId, roundId, GameEvent.PLAYER, index, hand.calculateScore()));
+
         boolean active = true;
         while (active) {
-            notifyObservers(participant.getName() + " карти: " + participant.getHand() +
-                    " (Очки: " + participant.getHand().calculateScore() + ")");
+            if (hand.isBusted()) {
+                if (hasListeners()) publish(new BustEvent(tableId, roundId, GameEvent.PLAYER, index, hand.calculateScore()));
+                active = false;
+            } else if (hand.isBlackjack()) {
+                if (hasListeners()) publish(new BlackjackEvent(tableId, roundId, GameEvent.PLAYER, index));
+                active = false;
+            } else if (hand.isFromSplit() && !rules.hitSplitAces()
+                    && hand.getCards().get(0).getRank() == Rank.ACE) {
+                // Розділені тузи отримують лише одну карту
+                active = false;
+            } else {
+                boolean firstMove = hand.size() == 2;
+                boolean canDouble = firstMove && rules.canDouble(hand) && (!hand.isFromSplit() || rules.doubleAfterSplit());
+                boolean canSplit = firstMove && player.getHandCount() < rules.maxHands() && player.canSplit(index);
+                boolean canSurrender = rules.lateSurrender() && firstMove && !hand.isFromSplit();
+
+                // Безпечна точка: стан руки повний, а рішення ще не прийняте
+                if (checkpoints != null) checkpoints.checkpoint(this);
+                long startTime = metrics != null ? System.nanoTime() : 0;
+                Action action = player.decide(deck, upCard, index, canDouble, canSplit, canSurrender);
+                if (metrics != null) metrics.recordDecision(GameEvent.PLAYER, System.nanoTime() - startTime);
+                active = applyAction(action, index, hand);
+            }
+        }
+    }
+
+    // Повертає true, якщо рука продовжує хід
+    private boolean applyAction(Action action, int index, Hand hand) throws GameException {
+        switch (action) {
+            case HIT -> {
+                int code = player.hit(deck, index);
+                if (hasListeners()) publish(new HitEvent(tableId, roundId, GameEvent.PLAYER, index, code, hand.calculateScore()));
+                return true;
+            }
+            case DOUBLE -> {
+                hand.markDoubled();
+                int code = player.hit(deck, index);
+                if (hasListeners()) publish(new DoubleEvent(tableId, roundId, index, code, hand.calculateScore()));
+                if (hand.isBusted() && hasListeners()) {
+                    publish(new BustEvent(tableId, roundId, GameEvent.PLAYER, index, hand.calculateScore()));
+                }
+                return false;
+            }
+            case SPLIT -> {
+                int newIndex = player.split(index);
+                if (hasListeners()) publish(new SplitEvent(tableId, roundId, index, newIndex));
+                dealCard(player, GameEvent.PLAYER, index);
+                return true;
+            }
+            case SURRENDER -> {
+                hand.markSurrendered();
+                if (hasListeners()) publish(new SurrenderEvent(tableId, roundId, index));
+                return false;
+            }
+            default -> {
+                if (hasListeners()) publish(new StandEvent(tableId, roundId, GameEvent.PLAYER, index, hand.calculateScore()));
+                return false;
+            }
+        }
+    }
+
+    private void processParticipantTurn(Participant participant, ICard visibleCard) throws GameException {
+        int who = participant == player ? GameEvent.PLAYER : GameEvent.DEALER;
+        Hand hand = participant.getHand();
+        if (hasListeners()) publish(new TurnStartEvent(tableId, roundId, who, 0, hand.calculateScore()));
 
-            if (participant.getHand().isBusted()) {
+        boolean active = true;
+        while (active) {
+            if (hand.isBusted()) {
+                if (hasListeners()) publish(new BustEvent(tableId, roundId, who, 0, hand.calculateScore()));
                 active = false;
-            } else if (participant.getHand().isBlackjack()) {
-                notifyObservers(participant.getName() + " має Блекджек!");
+            } else if (hand.isBlackjack()) {
+                if (hasListeners()) publish(new BlackjackEvent(tableId, roundId, who, 0));
                 active = false;
             } else {
-                active = participant.makeMove(deck, visibleCard, this::notifyObservers);
+                long startTime = metrics != null ? System.nanoTime() : 0;
+                int code = participant.makeMove(deck, visibleCard);
+                if (metrics != null) metrics.recordDecision(who, System.nanoTime() - startTime);
+                active = code >= 0;
+                if (hasListeners()) {
+                    publish(active
+                            ? new HitEvent(tableId, roundId, who, 0, code, hand.calculateScore())
+                            : new StandEvent(tableId, roundId, who, 0, hand.calculateScore()));
+                }
             }
         }
     }
 
     private void determineWinner() {
-        int pScore = player.getHand().calculateScore();
-        int dScore = dealer.getHand().calculateScore();
+        Hand dealerHand = dealer.getHand();
+        int dScore = dealerHand.calculateScore();
+
+        for (int i = 0; i < player.getHandCount(); i++) {
+            Hand playerHand = player.getHand(i);
+            int pScore = playerHand.calculateScore();
 
-        notifyObservers("\n--- РЕЗУЛЬТАТ ---");
-        notifyObservers("Гравець: " + pScore + " | Дилер: " + dScore);
+            RoundOutcome outcome;
+            if (playerHand.isSurrendered()) {
+                outcome = RoundOutcome.PLAYER_SURRENDER;
+            } else if (playerHand.isBusted()) {
+                outcome = RoundOutcome.PLAYER_BUST;
+            } else if (playerHand.isNatural() != dealerHand.isNatural()) {
+                // Блекджек з двох карт сильніший за будь-які інші 21 очко
+                outcome = playerHand.isNatural() ? RoundOutcome.PLAYER_WIN : RoundOutcome.DEALER_WIN;
+            } else if (dealerHand.isBusted()) {
+                outcome = RoundOutcome.DEALER_BUST;
+            } else if (pScore > dScore) {
+                outcome = RoundOutcome.PLAYER_WIN;
+            } else if (pScore < dScore) {
+                outcome = RoundOutcome.DEALER_WIN;
+            } else {
+                outcome = RoundOutcome.PUSH;
+            }
 
-        if (dealer.getHand().isBusted()) {
-            notifyObservers("Дилер згорів! Ви виграли!");
-        } else if (pScore > dScore) {
-            notifyObservers("Ви перемогли!");
-        } else if (pScore < dScore) {
-            notifyObservers("Дилер переміг.");
-        } else {
-            notifyObservers("Нічия.");
+            result.addHand(outcome, playerHand.isDoubled());
+            settleHand(playerHand, outcome);
+            if (hasListeners()) publish(new OutcomeEvent(tableId, roundId, i, pScore, dScore, outcome));
         }
     }
+
+    private void settleHand(Hand hand, RoundOutcome outcome) {
+        long stake = hand.isDoubled() ? 2 * result.getBet() : result.getBet();
+        long amount = switch (outcome) {
+            case PLAYER_WIN -> hand.isNatural()
+                    ? stake * rules.blackjackPayoutNumerator() / rules.blackjackPayoutDenominator()
+                    : stake;
+            case DEALER_BUST -> stake;
+            case PUSH -> 0;
+            case PLAYER_SURRENDER -> -(stake - stake * GameConfig.SURRENDER_REFUND_NUMERATOR
+                    / GameConfig.SURRENDER_REFUND_DENOMINATOR);
+            default -> -stake;
+        };
+        result.settle(stake, amount);
+    }
+
+    // Страховка - окрема ставка на половину основної
+    private void settleInsurance(boolean won) {
+        long stake = result.getBet() / 2;
+        result.settle(stake, won ? stake * rules.insurancePayout() : -stake);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+import java.util.concurrent.atomic.LongAdder;
+
+// Лічильники та гістограми затримок гри; спільні для багатьох столів і потоків
+public class GameMetrics {
+    private static final RoundOutcome[] OUTCOMES = RoundOutcome.values();
+
+    private final LongAdder[] outcomes = new LongAdder[OUTCOMES.length];
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder doubles = new LongAdder();
+    private final LongAdder splits = new LongAdder();
+    private final LongAdder insurances = new LongAdder();
+    private final LongAdder wagered = new LongAdder();
+    private final LongAdder playerNet = new LongAdder();
+    private final LongAdder blackjacks = new LongAdder();
+    private final LongAdder cardsDrawn = new LongAdder();
+    private final LongAdder deckExhaustions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private final LatencyHistogram roundLatency = new LatencyHistogram();
+    private final LatencyHistogram playerDecisionLatency = new LatencyHistogram();
+    private final LatencyHistogram dealerDecisionLatency = new LatencyHistogram();
+
+    public GameMetrics() {
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomes[i] = new LongAdder();
+        }
+    }
+
+    // Результати рахуються по кожній руці гравця
+    public void recordRound(RoundResult result, long nanos) {
+        rounds.increment();
+        int handCount = result.getHandCount();
+        if (handCount > 1) splits.add(handCount - 1);
+        if (result.isInsured()) insurances.increment();
+        wagered.add(result.getWagered());
+        playerNet.add(result.getNet());
+        for (int i = 0; i < handCount; i++) {
+            outcomes[result.getOutcome(i).ordinal()].increment();
+            if (result.isDoubled(i)) doubles.increment();
+        }
+        roundLatency.record(nanos);
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public void recordBlackjack() {
+        blackjacks.increment();
+    }
+
+    public void recordDraw() {
+        cardsDrawn.increment();
+    }
+
+    public void recordDeckExhausted() {
+        deckExhaustions.increment();
+    }
+
+    // participant - GameEvent.PLAYER або GameEvent.DEALER
+    public void recordDecision(int participant, long nanos) {
+        (participant == GameEvent.DEALER ? dealerDecisionLatency : playerDecisionLatency).record(nanos);
+    }
+
+    public MetricsSnapshot snapshot() {
+        long[] outcomeCounts = new long[outcomes.length];
+        for (int i = 0; i < outcomes.length; i++) {
+            outcomeCounts[i] = outcomes[i].sum();
+        }
+        return new MetricsSnapshot(rounds.sum(), outcomeCounts, doubles.sum(), splits.sum(),
+                insurances.sum(), wagered.sum(), playerNet.sum(), blackjacks.sum(), cardsDrawn.sum(),
+                deckExhaustions.sum(), errors.sum(), roundLatency.snapshot(),
+                playerDecisionLatency.snapshot(), dealerDecisionLatency.snapshot());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// TCP-сервер столів: кожне з'єднання - окреме місце зі своїм столом на віртуальному потоці.
+// Блокуюче читання сокета паркує лише віртуальний потік, тож десятки тисяч місць
+// обслуговує кілька потоків ОС
+public class GameServer implements AutoCloseable {
+    private static final int BACKLOG = 4096;
+
+    private final RuleSet rules;
+    private final CardFactory factory = new SimpleCardFactory();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Integer, RemoteSeat> seats = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final ServerSocket serverSocket;
+    private volatile GameMetrics metrics;
+
+    // port 0 - будь-який вільний порт
+    public GameServer(int port, RuleSet rules) throws IOException {
+        this.rules = rules;
+        this.serverSocket = new ServerSocket();
+        this.serverSocket.setReuseAddress(true);
+        this.serverSocket.bind(new InetSocketAddress(port), BACKLOG);
+    }
+
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int seatCount() {
+        return seats.size();
+    }
+
+    public void start() {
+        executor.submit(this::acceptLoop);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                RemoteSeat seat = new RemoteSeat(nextId.getAndIncrement(), socket, Deck.create(factory, rules), rules, metrics);
+                seats.put(seat.getSeatId(), seat);
+                executor.submit(() -> {
+                    try {
+                        seat.run();
+                    } finally {
+                        seats.remove(seat.getSeatId());
+                    }
+                });
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) System.err.println("Помилка прийому з'єднання: " + e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (RemoteSeat seat : seats.values()) {
+            seat.close();
+        }
+        executor.shutdownNow();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
+public class GameServerMain {
+    // Аргументи: [порт] [rules=<файл>] [metrics=<файл>]
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7021;
+        RuleSet rules = RuleSet.DEFAULT;
+        Path metricsFile = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("rules=")) rules = RuleSet.load(Path.of(args[i].substring("rules=".length())));
+            else if (args[i].startsWith("metrics=")) metricsFile = Path.of(args[i].substring("metrics=".length()));
+        }
+
+        GameMetrics metrics = new GameMetrics();
+        MetricsReporter reporter = metricsFile != null ? new MetricsReporter(metrics, metricsFile, 1000) : null;
+        try (reporter; GameServer server = new GameServer(port, rules)) {
+            server.setMetrics(metrics);
+            server.start();
+            System.out.println("Сервер слухає порт " + server.getPort() + " | Правила: " + rules);
+            while (true) {
+                Thread.sleep(5000);
+                System.out.println("Місць: " + server.seatCount() + " | Раундів: " + metrics.snapshot().rounds());
+            }
+        }
+    }
+}
\ No newline at end of file
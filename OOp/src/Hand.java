@@ -1,36 +1,115 @@
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 public class Hand implements Iterable<ICard> {
     final private List<ICard> cards = new ArrayList<>();
+    final private List<ICard> cardsView = Collections.unmodifiableList(cards);
+    // Сума очок, де туз рахується як 1, та кількість тузів; оновлюються в addCard
+    private int hardTotal;
+    private int aces;
+    private boolean doubled;
+    private boolean fromSplit;
+    private boolean surrendered;
 
     public void addCard(ICard card) {
         cards.add(card);
+        if (card.getRank() == Rank.ACE) {
+            hardTotal += 1;
+            aces++;
+        } else {
+            hardTotal += card.getValue();
+        }
+    }
+
+    // Забирає останню карту (для розділення пари)
+    ICard removeLastCard() {
+        ICard card = cards.remove(cards.size() - 1);
+        if (card.getRank() == Rank.ACE) {
+            hardTotal -= 1;
+            aces--;
+        } else {
+            hardTotal -= card.getValue();
+        }
+        return card;
+    }
+
+    public void clear() {
+        cards.clear();
+        hardTotal = 0;
+        aces = 0;
+        doubled = false;
+        fromSplit = false;
+        surrendered = false;
+    }
+
+    public int size() {
+        return cards.size();
+    }
+
+    // Індекс (очки << 1 | м'яка) для таблиць правил; лише для руки без перебору
+    public int stateIndex() {
+        boolean soft = isSoft();
+        return ((soft ? hardTotal + 10 : hardTotal) << 1) | (soft ? 1 : 0);
+    }
+
+    public boolean isPair() {
+        return cards.size() == 2 && cards.get(0).getValue() == cards.get(1).getValue();
+    }
+
+    // Справжній блекджек: 21 з перших двох карт не після розділення
+    public boolean isNatural() {
+        return cards.size() == 2 && !fromSplit && calculateScore() == GameConfig.BLACKJACK_LIMIT;
+    }
+
+    void markDoubled() {
+        doubled = true;
+    }
+
+    public boolean isDoubled() {
+        return doubled;
+    }
+
+    void markSplit() {
+        fromSplit = true;
+    }
+
+    public boolean isFromSplit() {
+        return fromSplit;
+    }
+
+    void markSurrendered() {
+        surrendered = true;
+    }
+
+    public boolean isSurrendered() {
+        return surrendered;
     }
 
     public List<ICard> getCards() {
-        return cards;
+        return cardsView;
     }
 
-    public int calculateScore() {
-        int score = 0;
-        int aces = 0;
+    public int getHardTotal() {
+        return hardTotal;
+    }
 
-        for (ICard card : cards) {
-            score += card.getValue();
-            if (card.getRank() == Rank.ACE) aces++;
-        }
+    public int getSoftTotal() {
+        return aces > 0 ? hardTotal + 10 : hardTotal;
+    }
 
-        while (score > GameConfig.BLACKJACK_LIMIT && aces > 0) {
-            score -= 10;
-            aces--;
-        }
-        return score;
+    // М'яка рука: один туз можна рахувати як 11 без перебору
+    public boolean isSoft() {
+        return aces > 0 && hardTotal + 10 <= GameConfig.BLACKJACK_LIMIT;
+    }
+
+    public int calculateScore() {
+        return isSoft() ? hardTotal + 10 : hardTotal;
     }
 
     public boolean isBusted() {
-        return calculateScore() > GameConfig.BLACKJACK_LIMIT;
+        return hardTotal > GameConfig.BLACKJACK_LIMIT;
     }
 
     public boolean isBlackjack() {
@@ -39,11 +118,16 @@ public class Hand implements Iterable<ICard> {
 
     @Override
     public String toString() {
-        return cards.toString();
+        StringBuilder out = new StringBuilder(cards.size() * 8).append('[');
+        for (int i = 0; i < cards.size(); i++) {
+            if (i > 0) out.append(", ");
+            out.append(cards.get(i).getDisplayString());
+        }
+        return out.append(']').toString();
     }
 
     @Override
     public Iterator<ICard> iterator() {
-        return cards.iterator();
+        return cardsView.iterator();
     }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+public record HitEvent(int tableId, long roundId, int participant, int hand, int cardCode, int score) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onHit(this);
+    }
+}
\ No newline at end of file
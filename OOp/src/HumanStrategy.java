@@ -16,4 +16,43 @@ public class HumanStrategy implements MoveStrategy {
             System.out.println("Помилка: введіть 1 або 2.");
         }
     }
+
+    @Override
+    public Action decide(DecisionContext context) {
+        if (!context.canDouble() && !context.canSplit() && !context.canSurrender()) {
+            return shouldHit(context) ? Action.HIT : Action.STAND;
+        }
+
+        StringBuilder prompt = new StringBuilder(">> Ваш хід: (1) Взяти карту, (2) Досить");
+        if (context.canDouble()) prompt.append(", (3) Подвоїти");
+        if (context.canSplit()) prompt.append(", (4) Розділити");
+        if (context.canSurrender()) prompt.append(", (5) Здатися");
+        prompt.append(": ");
+
+        while (true) {
+            System.out.print(prompt);
+            String input = scanner.nextLine().trim();
+
+            if (input.equals("1")) return Action.HIT;
+            if (input.equals("2")) return Action.STAND;
+            if (input.equals("3") && context.canDouble()) return Action.DOUBLE;
+            if (input.equals("4") && context.canSplit()) return Action.SPLIT;
+            if (input.equals("5") && context.canSurrender()) return Action.SURRENDER;
+
+            System.out.println("Помилка: оберіть один із запропонованих варіантів.");
+        }
+    }
+
+    @Override
+    public boolean takeInsurance(DecisionContext context) {
+        while (true) {
+            System.out.print(">> У дилера туз. Страховка? (1) Так, (2) Ні: ");
+            String input = scanner.nextLine().trim();
+
+            if (input.equals("1")) return true;
+            if (input.equals("2")) return false;
+
+            System.out.println("Помилка: введіть 1 або 2.");
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 public interface ICard {
     int getValue();
     Rank getRank();
+    Suit getSuit();
     String getDisplayString();
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+// Гравець застрахувався від блекджека дилера; won - чи зіграла страховка
+public record InsuranceEvent(int tableId, long roundId, boolean won) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onInsurance(this);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+public final class JournalReader {
+    private static final RoundOutcome[] OUTCOMES = RoundOutcome.values();
+
+    private JournalReader() {
+    }
+
+    public static long forEach(Path directory, Consumer<JournalRecord> consumer) throws IOException {
+        long count = 0;
+        for (Path path : RoundJournal.segments(directory)) {
+            MappedByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            while (segment.remaining() >= 4) {
+                int length = segment.getInt();
+                if (length == 0) break;
+                if (length > segment.remaining()) {
+                    throw new IOException("Пошкоджений сегмент журналу: " + path);
+                }
+
+                int tableId = segment.getInt();
+                long roundId = segment.getLong();
+                boolean insured = (segment.get() & 1) != 0;
+                RoundOutcome[] outcomes = new RoundOutcome[segment.get()];
+                for (int i = 0; i < outcomes.length; i++) {
+                    outcomes[i] = OUTCOMES[segment.get()];
+                }
+                byte[] cards = new byte[segment.get() & 0xFF];
+                segment.get(cards);
+                byte[] decisions = new byte[segment.get() & 0xFF];
+                segment.get(decisions);
+
+                consumer.accept(new JournalRecord(tableId, roundId, insured, outcomes, cards, decisions));
+                count++;
+            }
+        }
+        return count;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,4 @@
+// decisions - порядкові номери Action у порядку ходів гравця
+public record JournalRecord(int tableId, long roundId, boolean insured, RoundOutcome[] outcomes,
+                            byte[] cards, byte[] decisions) {
+}
\ No newline at end of file
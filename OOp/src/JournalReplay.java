@@ -0,0 +1,125 @@
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Повторно програє раунди з журналу через логіку GameManager і звіряє результати
+public class JournalReplay {
+    private final ReplayDeck deck = new ReplayDeck(new SimpleCardFactory());
+    private final ReplayStrategy strategy = new ReplayStrategy();
+    private final GameManager game;
+    private final SimulationResult result = new SimulationResult();
+    private long mismatches;
+
+    public JournalReplay() {
+        this(RuleSet.DEFAULT);
+    }
+
+    // Раунди відтворюються за тими самими правилами, за якими їх зіграно
+    public JournalReplay(RuleSet rules) {
+        this.game = new GameManager(deck, new Player("Гравець", strategy), rules);
+    }
+
+    public void replay(JournalRecord record) {
+        deck.load(record.cards());
+        strategy.load(record.decisions(), record.insured());
+        try {
+            RoundResult outcome = game.playHeadlessRound();
+            result.record(outcome);
+            if (!matches(outcome, record.outcomes())) mismatches++;
+        } catch (GameException e) {
+            result.recordError();
+            mismatches++;
+        }
+    }
+
+    private static boolean matches(RoundResult result, RoundOutcome[] expected) {
+        if (result.getHandCount() != expected.length) return false;
+        for (int i = 0; i < expected.length; i++) {
+            if (result.getOutcome(i) != expected[i]) return false;
+        }
+        return true;
+    }
+
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    public long getMismatches() {
+        return mismatches;
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Аргументи: [тека журналу] [файл правил]
+        Path directory = Path.of(args.length > 0 ? args[0] : "journal");
+        JournalReplay replay = new JournalReplay(args.length > 1 ? RuleSet.load(Path.of(args[1])) : RuleSet.DEFAULT);
+
+        long startTime = System.nanoTime();
+        long records = JournalReader.forEach(directory, replay::replay);
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        System.out.println("--- ВІДТВОРЕННЯ ЖУРНАЛУ ---");
+        System.out.println("Записів: " + records + " | Розбіжностей: " + replay.getMismatches());
+        System.out.println(replay.getResult());
+        System.out.println("Час: " + elapsedMs + " мс");
+    }
+
+    // Колода, що роздає карти точно в записаному порядку
+    private static class ReplayDeck extends Deck {
+        private byte[] order = new byte[0];
+        private int position;
+
+        ReplayDeck(CardFactory factory) {
+            super(factory);
+        }
+
+        void load(byte[] order) {
+            this.order = order;
+            this.position = 0;
+        }
+
+        @Override
+        public void prepareRound() {
+        }
+
+        // І відкриті карти, і закрита карта дилера беруться з журналу
+        @Override
+        protected int take() throws DeckEmptyException {
+            if (position >= order.length) throw new DeckEmptyException();
+            return order[position++];
+        }
+
+        @Override
+        public int remaining() {
+            return order.length - position;
+        }
+    }
+
+    // Рішення гравця в записаному порядку
+    private static class ReplayStrategy implements MoveStrategy {
+        private static final Action[] ACTIONS = Action.values();
+
+        private byte[] decisions = new byte[0];
+        private int position;
+        private boolean insured;
+
+        void load(byte[] decisions, boolean insured) {
+            this.decisions = decisions;
+            this.position = 0;
+            this.insured = insured;
+        }
+
+        @Override
+        public Action decide(DecisionContext context) {
+            return position < decisions.length ? ACTIONS[decisions[position++]] : Action.STAND;
+        }
+
+        @Override
+        public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+            return decide(null) == Action.HIT;
+        }
+
+        @Override
+        public boolean takeInsurance(DecisionContext context) {
+            return insured;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Генератор навантаження: багато місць одночасно, кожне на своєму віртуальному потоці.
+// Гравець бере карту до 17 очок. Затримка - від запиту клієнта (ставка чи дія)
+// до відповіді, що знову чекає на клієнта (PROMPT або ROUND_END)
+public class LoadClientMain {
+    private static final int BUFFER_SIZE = 512;
+    private static final int MAX_PAYLOAD = 1024;
+
+    // Аргументи: [місця] [раунди на місце] [хост:порт]; без адреси сервер запускається тут же на loopback
+    public static void main(String[] args) throws Exception {
+        int seats = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long rounds = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        GameServer localServer = null;
+        InetSocketAddress address;
+        if (args.length > 2) {
+            String[] parts = args[2].split(":");
+            address = new InetSocketAddress(parts[0], Integer.parseInt(parts[1]));
+        } else {
+            localServer = new GameServer(0, RuleSet.DEFAULT);
+            localServer.start();
+            address = new InetSocketAddress("127.0.0.1", localServer.getPort());
+        }
+
+        LatencyHistogram latency = new LatencyHistogram();
+        AtomicLong played = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long startTime = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> clients = new ArrayList<>(seats);
+            for (int i = 0; i < seats; i++) {
+                clients.add(executor.submit(() -> {
+                    try {
+                        played.addAndGet(playSeat(address, rounds, latency));
+                    } catch (IOException e) {
+                        failed.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> client : clients) client.get();
+        } finally {
+            if (localServer != null) localServer.close();
+        }
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        LatencyHistogram.Snapshot snapshot = latency.snapshot();
+        System.out.printf(Locale.ROOT, "Місць: %d | Раундів: %d | Невдалих місць: %d | %.0f раундів/с%n",
+                seats, played.get(), failed.get(), played.get() * 1e9 / elapsedNanos);
+        System.out.printf(Locale.ROOT, "Затримка відповіді, мкс: p50 %.1f | p90 %.1f | p99 %.1f | p99.9 %.1f | max %.1f%n",
+                snapshot.p50Nanos() / 1e3, snapshot.p90Nanos() / 1e3, snapshot.p99Nanos() / 1e3,
+                snapshot.p999Nanos() / 1e3, snapshot.maxNanos() / 1e3);
+    }
+
+    private static long playSeat(InetSocketAddress address, long rounds, LatencyHistogram latency) throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.setTcpNoDelay(true);
+            socket.connect(address);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+
+            WireProtocol.writeHeader(out, WireProtocol.JOIN, 1);
+            out.writeByte(WireProtocol.VERSION);
+            out.flush();
+            int header = WireProtocol.readHeader(in, MAX_PAYLOAD);
+            if (WireProtocol.type(header) != WireProtocol.WELCOME) throw new ProtocolException("Очікувався WELCOME");
+            in.skipNBytes(WireProtocol.payloadLength(header));
+
+            long played = 0;
+            long balance = Long.MAX_VALUE;
+            // Місце йде, коли баланс уже не покриває ставку: сервер таку ставку відхилить
+            for (; played < rounds && balance >= GameConfig.DEFAULT_BET; played++) {
+                WireProtocol.writeHeader(out, WireProtocol.BET, 8);
+                out.writeLong(GameConfig.DEFAULT_BET);
+                out.flush();
+                long sentAt = System.nanoTime();
+
+                boolean roundOver = false;
+                while (!roundOver) {
+                    header = WireProtocol.readHeader(in, MAX_PAYLOAD);
+                    switch (WireProtocol.type(header)) {
+                        case WireProtocol.PROMPT -> {
+                            latency.record(System.nanoTime() - sentAt);
+                            in.readUnsignedByte();
+                            in.readUnsignedByte();
+                            int score = in.readUnsignedByte();
+                            in.readUnsignedByte();
+                            Action action = score < GameConfig.DEALER_STOP_LIMIT ? Action.HIT : Action.STAND;
+                            WireProtocol.writeHeader(out, WireProtocol.ACTION, 1);
+                            out.writeByte(action.ordinal());
+                            out.flush();
+                            sentAt = System.nanoTime();
+                        }
+                        case WireProtocol.INSURANCE_PROMPT -> {
+                            WireProtocol.writeHeader(out, WireProtocol.INSURANCE, 1);
+                            out.writeByte(0);
+                            out.flush();
+                        }
+                        case WireProtocol.ROUND_END -> {
+                            latency.record(System.nanoTime() - sentAt);
+                            WireProtocol.expectLength(header, 16);
+                            in.readLong();
+                            balance = in.readLong();
+                            roundOver = true;
+                        }
+                        case WireProtocol.ERROR -> {
+                            in.readUnsignedShort();
+                            throw new ProtocolException(new String(in.readNBytes(WireProtocol.payloadLength(header) - 2),
+                                    StandardCharsets.UTF_8));
+                        }
+                        default -> in.skipNBytes(WireProtocol.payloadLength(header));
+                    }
+                }
+            }
+
+            WireProtocol.writeHeader(out, WireProtocol.LEAVE, 0);
+            out.flush();
+            return played;
+        }
+    }
+}
\ No newline at end of file
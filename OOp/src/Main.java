@@ -3,10 +3,11 @@ import java.util.Scanner;
 public class Main {
     public static void main(String[] args) {
         GameManager game = GameManager.getInstance();
-        game.addObserver(new ConsoleLogger());
 
         // Ви можете змінити фабрику на SimpleCardFactory() для звичайного вигляду
-        game.setCardFactory(new FancyCardFactory());
+        CardFactory factory = new FancyCardFactory();
+        game.addObserver(new ConsoleLogger(factory));
+        game.setCardFactory(factory);
 
         Scanner scanner = new Scanner(System.in);
 
@@ -0,0 +1,8 @@
+public record MessageEvent(String text) implements GameEvent {
+    public static final MessageEvent STARTED = new MessageEvent("--- БЛЕКДЖЕК PRO STARTED ---");
+
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onMessage(this);
+    }
+}
\ No newline at end of file
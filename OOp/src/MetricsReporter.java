@@ -0,0 +1,47 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Періодично записує знімок метрик у локальний файл у форматі Prometheus
+public class MetricsReporter implements AutoCloseable {
+    private final GameMetrics metrics;
+    private final Path file;
+    private final ScheduledExecutorService scheduler;
+
+    public MetricsReporter(GameMetrics metrics, Path file, long periodMillis) {
+        this.metrics = metrics;
+        this.file = file.toAbsolutePath();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::dumpQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Файл замінюється атомарно, щоб читач не побачив його наполовину записаним
+    public void dump() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, metrics.snapshot().toPrometheus(), StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException e) {
+            System.err.println("Не вдалося записати метрики: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        dumpQuietly();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+import java.util.Locale;
+
+public record MetricsSnapshot(long rounds, long[] outcomes, long doubles, long splits,
+                              long insurances, long wageredCents, long playerNetCents, long blackjacks, long cardsDrawn, long deckExhaustions,
+                              long errors, LatencyHistogram.Snapshot roundLatency,
+                              LatencyHistogram.Snapshot playerDecisionLatency,
+                              LatencyHistogram.Snapshot dealerDecisionLatency) {
+
+    public long outcome(RoundOutcome outcome) {
+        return outcomes[outcome.ordinal()];
+    }
+
+    // Текстовий формат експозиції Prometheus
+    public String toPrometheus() {
+        StringBuilder out = new StringBuilder(2048);
+        counter(out, "blackjack_rounds_total", "Зіграні раунди", rounds);
+        out.append("# HELP blackjack_outcomes_total Результати рук гравця\n");
+        out.append("# TYPE blackjack_outcomes_total counter\n");
+        for (RoundOutcome outcome : RoundOutcome.values()) {
+            out.append("blackjack_outcomes_total{outcome=\"").append(outcome.name().toLowerCase(Locale.ROOT))
+                    .append("\"} ").append(outcome(outcome)).append('\n');
+        }
+        counter(out, "blackjack_player_busts_total", "Перебори гравця", outcome(RoundOutcome.PLAYER_BUST));
+        counter(out, "blackjack_dealer_busts_total", "Перебори дилера", outcome(RoundOutcome.DEALER_BUST));
+        counter(out, "blackjack_doubles_total", "Подвоєння ставки", doubles);
+        counter(out, "blackjack_splits_total", "Розділення пар", splits);
+        counter(out, "blackjack_insurances_total", "Взяті страховки", insurances);
+        counter(out, "blackjack_wagered_cents_total", "Сума ставок у копійках", wageredCents);
+        gauge(out, "blackjack_player_net_cents", "Сумарний виграш гравців у копійках", playerNetCents);
+        counter(out, "blackjack_blackjacks_total", "Блекджеки з двох перших карт у гравця і дилера", blackjacks);
+        counter(out, "blackjack_cards_drawn_total", "Взяті з колоди карти", cardsDrawn);
+        counter(out, "blackjack_deck_exhaustions_total", "Спроби взяти карту з порожньої колоди", deckExhaustions);
+        counter(out, "blackjack_round_errors_total", "Раунди, перервані помилкою", errors);
+        summary(out, "blackjack_round_latency_seconds", "Тривалість раунду", roundLatency);
+        summary(out, "blackjack_player_decision_latency_seconds", "Тривалість ходу гравця", playerDecisionLatency);
+        summary(out, "blackjack_dealer_decision_latency_seconds", "Тривалість ходу дилера", dealerDecisionLatency);
+        return out.toString();
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, long value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" gauge\n");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void summary(StringBuilder out, String name, String help, LatencyHistogram.Snapshot latency) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" summary\n");
+        quantile(out, name, "0.5", latency.p50Nanos());
+        quantile(out, name, "0.9", latency.p90Nanos());
+        quantile(out, name, "0.99", latency.p99Nanos());
+        quantile(out, name, "0.999", latency.p999Nanos());
+        out.append(name).append("_sum ").append(seconds(latency.sumNanos())).append('\n');
+        out.append(name).append("_count ").append(latency.count()).append('\n');
+    }
+
+    private static void quantile(StringBuilder out, String name, String quantile, long nanos) {
+        out.append(name).append("{quantile=\"").append(quantile).append("\"} ")
+                .append(seconds(nanos)).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1e9);
+    }
+}
\ No newline at end of file
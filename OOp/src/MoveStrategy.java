@@ -1,3 +1,19 @@
 public interface MoveStrategy {
     boolean shouldHit(Hand hand, ICard dealerVisibleCard);
+
+    // Рішення з розширеним контекстом (наприклад, рахунком карт);
+    // стратегії, яким він не потрібен, працюють як раніше
+    default boolean shouldHit(DecisionContext context) {
+        return shouldHit(context.getHand(), context.getDealerUpCard());
+    }
+
+    // Повний набір дій; за замовчуванням лише взяти карту або зупинитися
+    default Action decide(DecisionContext context) {
+        return shouldHit(context) ? Action.HIT : Action.STAND;
+    }
+
+    // Страховка пропонується, коли відкрита карта дилера - туз
+    default boolean takeInsurance(DecisionContext context) {
+        return false;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+// Середнє та дисперсія за алгоритмом Велфорда: один прохід, без накопичення
+// сум квадратів, тож точність не падає на 10^8+ спостережень.
+// Часткові результати потоків зливаються формулою Чана
+public class OnlineStats {
+    private long count;
+    private double mean;
+    private double m2;
+
+    // Відновлення зі збережених моментів (наприклад, зі спільного лічильника)
+    public static OnlineStats of(long count, double mean, double m2) {
+        OnlineStats stats = new OnlineStats();
+        stats.count = count;
+        stats.mean = mean;
+        stats.m2 = m2;
+        return stats;
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    public OnlineStats merge(OnlineStats other) {
+        if (other.count == 0) return this;
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            m2 = other.m2;
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        return this;
+    }
+
+    public OnlineStats copy() {
+        return of(count, mean, m2);
+    }
+
+    public void reset() {
+        count = 0;
+        mean = 0;
+        m2 = 0;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    // Сума квадратів відхилень від середнього
+    public double getM2() {
+        return m2;
+    }
+
+    // Вибіркова дисперсія
+    public double getVariance() {
+        return count < 2 ? 0 : m2 / (count - 1);
+    }
+
+    public double getStddev() {
+        return Math.sqrt(getVariance());
+    }
+
+    // Половина ширини довірчого інтервалу для середнього; z = 1.96 для 95%
+    public double getHalfWidth(double z) {
+        return count < 2 ? Double.POSITIVE_INFINITY : z * getStddev() / Math.sqrt(count);
+    }
+}
\ No newline at end of file
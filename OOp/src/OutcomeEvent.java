@@ -0,0 +1,7 @@
+// Результат однієї руки гравця; після розділення таких подій кілька
+public record OutcomeEvent(int tableId, long roundId, int hand, int playerScore, int dealerScore, RoundOutcome outcome) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onOutcome(this);
+    }
+}
\ No newline at end of file
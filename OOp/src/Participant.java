@@ -2,27 +2,117 @@ public abstract class Participant {
     protected String name;
     protected Hand hand;
     protected MoveStrategy strategy;
+    private final DecisionContext context = new DecisionContext();
+    private Bankroll bankroll = new Bankroll();
+    // Руки після розділень; hands[0] - це hand. Додаткові руки створюються
+    // один раз і далі перевикористовуються
+    private final Hand[] hands = new Hand[GameConfig.MAX_HANDS];
+    private int handCount = 1;
 
     public Participant(String name, MoveStrategy strategy) {
         this.name = name;
         this.strategy = strategy;
         this.hand = new Hand();
+        this.hands[0] = hand;
     }
 
-    public boolean makeMove(Deck deck, ICard dealerVisibleCard, GameObserver logger) throws GameException {
-        if (strategy.shouldHit(hand, dealerVisibleCard)) {
-            ICard card = deck.draw();
-            hand.addCard(card);
-            logger.update(name + " взяв карту: " + card);
-            return true;
+    // Повертає код взятої карти (CardCode) або -1, якщо учасник зупинився
+    public int makeMove(Deck deck, ICard dealerVisibleCard) throws GameException {
+        context.update(hand, dealerVisibleCard, deck.getCounter());
+        if (strategy.shouldHit(context)) {
+            return hit(deck, 0);
         }
-        return false;
+        return -1;
+    }
+
+    // Недоступна дія замінюється на звичайне рішення "взяти/досить"
+    public Action decide(Deck deck, ICard dealerVisibleCard, int index,
+                         boolean canDouble, boolean canSplit, boolean canSurrender) {
+        context.update(hands[index], dealerVisibleCard, deck.getCounter(), index, canDouble, canSplit, canSurrender);
+        Action action = strategy.decide(context);
+        if ((action == Action.DOUBLE && !canDouble) || (action == Action.SPLIT && !canSplit)
+                || (action == Action.SURRENDER && !canSurrender)) {
+            action = strategy.shouldHit(context) ? Action.HIT : Action.STAND;
+        }
+        return action;
+    }
+
+    public boolean takeInsurance(Deck deck, ICard dealerVisibleCard) {
+        context.update(hand, dealerVisibleCard, deck.getCounter());
+        return strategy.takeInsurance(context);
+    }
+
+    public int hit(Deck deck, int index) throws GameException {
+        int code = deck.drawCode();
+        hands[index].addCard(deck.cardFor(code));
+        return code;
+    }
+
+    // Закрита карта (друга карта дилера) не потрапляє в рахунок до відкриття
+    public int hitHidden(Deck deck) throws GameException {
+        int code = deck.drawHiddenCode();
+        hand.addCard(deck.cardFor(code));
+        return code;
+    }
+
+    public boolean canSplit(int index) {
+        return handCount < GameConfig.MAX_HANDS && hands[index].isPair();
+    }
+
+    // Друга карта пари переходить у нову руку; повертає її номер
+    public int split(int index) {
+        if (!canSplit(index)) throw new IllegalStateException("Цю руку не можна розділити");
+        Hand source = hands[index];
+        Hand target = hands[handCount];
+        if (target == null) {
+            target = new Hand();
+            hands[handCount] = target;
+        }
+        target.clear();
+        target.addCard(source.removeLastCard());
+        source.markSplit();
+        target.markSplit();
+        return handCount++;
+    }
+
+    public void resetHands() {
+        for (int i = 0; i < handCount; i++) {
+            hands[i].clear();
+        }
+        handCount = 1;
+    }
+
+    // Порожні руки 0..count-1 для відновлення зі знімка
+    void restoreHands(int count) {
+        if (count < 1 || count > GameConfig.MAX_HANDS) throw new IllegalArgumentException("Кількість рук: " + count);
+        resetHands();
+        for (int i = 1; i < count; i++) {
+            if (hands[i] == null) hands[i] = new Hand();
+            hands[i].clear();
+        }
+        handCount = count;
     }
 
     public Hand getHand() {
         return hand;
     }
 
+    public Hand getHand(int index) {
+        return hands[index];
+    }
+
+    public int getHandCount() {
+        return handCount;
+    }
+
+    public Bankroll getBankroll() {
+        return bankroll;
+    }
+
+    public void setBankroll(Bankroll bankroll) {
+        this.bankroll = bankroll;
+    }
+
     public String getName() {
         return name;
     }
@@ -2,4 +2,8 @@ public class Player extends Participant {
     public Player(String name) {
         super(name, new HumanStrategy());
     }
+
+    public Player(String name, MoveStrategy strategy) {
+        super(name, strategy);
+    }
 }
\ No newline at end of file
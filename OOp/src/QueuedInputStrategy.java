@@ -0,0 +1,46 @@
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+// Рішення гравця надходять ззовні (мережа, бот) замість Scanner.
+// Очікування паркує лише віртуальний потік стола, а не потік ОС
+public class QueuedInputStrategy implements MoveStrategy {
+    private final BlockingQueue<Action> decisions = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Boolean> insurance = new LinkedBlockingQueue<>();
+
+    public void submit(boolean hit) {
+        submit(hit ? Action.HIT : Action.STAND);
+    }
+
+    public void submit(Action action) {
+        decisions.offer(action);
+    }
+
+    public void submitInsurance(boolean take) {
+        insurance.offer(take);
+    }
+
+    @Override
+    public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+        return take(decisions, Action.STAND) == Action.HIT;
+    }
+
+    @Override
+    public Action decide(DecisionContext context) {
+        return take(decisions, Action.STAND);
+    }
+
+    @Override
+    public boolean takeInsurance(DecisionContext context) {
+        return take(insurance, false);
+    }
+
+    private static <T> T take(BlockingQueue<T> queue, T onInterrupt) {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            // Стіл закривається: гравець зупиняється
+            Thread.currentThread().interrupt();
+            return onInterrupt;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,287 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ProtocolException;
+import java.net.Socket;
+
+// Місце віддаленого гравця: власний стіл на віртуальному потоці з'єднання.
+// Рішення MoveStrategy читаються з сокета, а події гри йдуть клієнту дельтами.
+// Дельти лише буферизуються і відправляються одним записом, коли сервер чекає на клієнта
+public class RemoteSeat implements MoveStrategy, GameEventObserver, Runnable {
+    private static final int BUFFER_SIZE = 512;
+    // Найбільший кадр від клієнта - ставка (8 байтів)
+    private static final int MAX_PAYLOAD = 8;
+
+    private final int seatId;
+    private final Socket socket;
+    private final GameManager game;
+    private final Player player;
+    private DataInputStream in;
+    private DataOutputStream out;
+    // Закрита карта дилера не йде клієнту до ходу дилера
+    private int dealerCards;
+    private int holeCard = WireProtocol.UNKNOWN;
+    private int holeScore;
+    private boolean insured;
+
+    public RemoteSeat(int seatId, Socket socket, Deck deck, RuleSet rules, GameMetrics metrics) {
+        this.seatId = seatId;
+        this.socket = socket;
+        this.player = new Player("Гравець " + seatId, this);
+        this.game = new GameManager(deck, player, rules);
+        this.game.setTableId(seatId);
+        this.game.addEventObserver(this);
+        if (metrics != null) this.game.setMetrics(metrics);
+    }
+
+    public int getSeatId() {
+        return seatId;
+    }
+
+    @Override
+    public void run() {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), BUFFER_SIZE));
+            out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), BUFFER_SIZE));
+            try {
+                handshake();
+                serve();
+            } catch (ProtocolException e) {
+                WireProtocol.writeError(out, e.getMessage());
+                out.flush();
+            } catch (UncheckedIOException e) {
+                // Порушення протоколу посеред раунду (з prompt чи takeInsurance) теж отримує ERROR
+                if (!(e.getCause() instanceof ProtocolException protocolError)) throw e;
+                WireProtocol.writeError(out, protocolError.getMessage());
+                out.flush();
+            }
+        } catch (EOFException e) {
+            // Клієнт відключився
+        } catch (IOException e) {
+            if (!socket.isClosed()) System.err.println("Місце " + seatId + ": " + e.getMessage());
+        } catch (UncheckedIOException e) {
+            // Обрив посеред раунду: стратегія не змогла отримати рішення
+        }
+    }
+
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Вже закрито
+        }
+    }
+
+    private void handshake() throws IOException {
+        int header = WireProtocol.readHeader(in, MAX_PAYLOAD);
+        if (WireProtocol.type(header) != WireProtocol.JOIN) throw new ProtocolException("Очікувався JOIN");
+        WireProtocol.expectLength(header, 1);
+        int version = in.readUnsignedByte();
+        if (version != WireProtocol.VERSION) throw new ProtocolException("Непідтримувана версія протоколу: " + version);
+
+        WireProtocol.writeHeader(out, WireProtocol.WELCOME, 12);
+        out.writeInt(seatId);
+        out.writeLong(player.getBankroll().getBalance());
+        out.flush();
+    }
+
+    private void serve() throws IOException {
+        while (true) {
+            int header = WireProtocol.readHeader(in, MAX_PAYLOAD);
+            switch (WireProtocol.type(header)) {
+                case WireProtocol.BET -> {
+                    WireProtocol.expectLength(header, 8);
+                    long bet = in.readLong();
+                    // Ставка поза лімітами столу чи понад баланс відхиляється ще до роздачі
+                    if (!game.getRules().isBetAllowed(bet)) {
+                        WireProtocol.writeError(out, "Ставка поза лімітами столу " + Bankroll.format(game.getRules().minBet())
+                                + ".." + Bankroll.format(game.getRules().maxBet()) + ": " + Bankroll.format(bet));
+                        out.flush();
+                        continue;
+                    }
+                    if (bet > player.getBankroll().getBalance()) {
+                        WireProtocol.writeError(out, "Ставка перевищує баланс " + Bankroll.format(player.getBankroll().getBalance()));
+                        out.flush();
+                        continue;
+                    }
+                    player.getBankroll().setBet(bet);
+                    dealerCards = 0;
+                    holeCard = WireProtocol.UNKNOWN;
+                    insured = false;
+                    try {
+                        game.playHeadlessRound();
+                    } catch (GameException e) {
+                        WireProtocol.writeError(out, "Раунд перервано: " + e.getMessage());
+                    }
+                    out.flush();
+                }
+                case WireProtocol.LEAVE -> {
+                    return;
+                }
+                default -> throw new ProtocolException("Неочікуваний кадр 0x" + Integer.toHexString(WireProtocol.type(header)));
+            }
+        }
+    }
+
+    // Рішення приходить у відповідь на PROMPT; недозволена дія отримує помилку і повторний запит
+    @Override
+    public Action decide(DecisionContext context) {
+        int mask = WireProtocol.actionMask(Action.HIT) | WireProtocol.actionMask(Action.STAND);
+        // Подвоєння і розділення додають ще одну ставку, тож доступні, лише якщо баланс її покриває
+        boolean covered = uncommittedBalance() >= player.getBankroll().getBet();
+        if (context.canDouble() && covered) mask |= WireProtocol.actionMask(Action.DOUBLE);
+        if (context.canSplit() && covered) mask |= WireProtocol.actionMask(Action.SPLIT);
+        if (context.canSurrender()) mask |= WireProtocol.actionMask(Action.SURRENDER);
+        return prompt(context.getHandIndex(), context.getHand(), mask);
+    }
+
+    // Баланс розраховується лише в кінці раунду; тут віднімаються вже зроблені в ньому ставки
+    private long uncommittedBalance() {
+        long bet = player.getBankroll().getBet();
+        long committed = insured ? bet / 2 : 0;
+        for (int i = 0; i < player.getHandCount(); i++) {
+            committed += player.getHand(i).isDoubled() ? 2 * bet : bet;
+        }
+        return player.getBankroll().getBalance() - committed;
+    }
+
+    @Override
+    public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+        int mask = WireProtocol.actionMask(Action.HIT) | WireProtocol.actionMask(Action.STAND);
+        return prompt(0, hand, mask) == Action.HIT;
+    }
+
+    @Override
+    public boolean takeInsurance(DecisionContext context) {
+        try {
+            WireProtocol.writeHeader(out, WireProtocol.INSURANCE_PROMPT, 0);
+            out.flush();
+            int header = WireProtocol.readHeader(in, MAX_PAYLOAD);
+            if (WireProtocol.type(header) != WireProtocol.INSURANCE) throw new ProtocolException("Очікувався INSURANCE");
+            WireProtocol.expectLength(header, 1);
+            insured = in.readUnsignedByte() != 0;
+            return insured;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Action prompt(int handIndex, Hand hand, int mask) {
+        Action[] actions = Action.values();
+        try {
+            while (true) {
+                WireProtocol.writeHeader(out, WireProtocol.PROMPT, 4);
+                out.writeByte(handIndex);
+                out.writeByte(mask);
+                out.writeByte(hand.calculateScore());
+                out.writeByte(hand.isSoft() ? 1 : 0);
+                out.flush();
+
+                int header = WireProtocol.readHeader(in, MAX_PAYLOAD);
+                if (WireProtocol.type(header) != WireProtocol.ACTION) throw new ProtocolException("Очікувався ACTION");
+                WireProtocol.expectLength(header, 1);
+                int ordinal = in.readUnsignedByte();
+                if (ordinal < actions.length && (mask & 1 << ordinal) != 0) return actions[ordinal];
+                WireProtocol.writeError(out, "Дія недоступна: " + ordinal);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void delta(int kind, int participant, int hand, int value, int score) {
+        try {
+            WireProtocol.writeDelta(out, kind, participant, hand, value, score);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void revealHoleCard() {
+        if (holeCard == WireProtocol.UNKNOWN) return;
+        delta(WireProtocol.REVEAL, GameEvent.DEALER, 0, holeCard, holeScore);
+        holeCard = WireProtocol.UNKNOWN;
+    }
+
+    @Override
+    public void onDeal(DealEvent event) {
+        if (event.participant() == GameEvent.DEALER && ++dealerCards == 2) {
+            holeCard = event.cardCode();
+            holeScore = event.score();
+            delta(WireProtocol.DEAL, GameEvent.DEALER, 0, WireProtocol.UNKNOWN, WireProtocol.UNKNOWN);
+            return;
+        }
+        delta(WireProtocol.DEAL, event.participant(), event.hand(), event.cardCode(), event.score());
+    }
+
+    @Override
+    public void onTurnStart(TurnStartEvent event) {
+        if (event.participant() == GameEvent.DEALER) revealHoleCard();
+        delta(WireProtocol.TURN, event.participant(), event.hand(), WireProtocol.UNKNOWN, event.score());
+    }
+
+    @Override
+    public void onHit(HitEvent event) {
+        delta(WireProtocol.HIT, event.participant(), event.hand(), event.cardCode(), event.score());
+    }
+
+    @Override
+    public void onStand(StandEvent event) {
+        delta(WireProtocol.STAND, event.participant(), event.hand(), WireProtocol.UNKNOWN, event.score());
+    }
+
+    @Override
+    public void onBust(BustEvent event) {
+        delta(WireProtocol.BUST, event.participant(), event.hand(), WireProtocol.UNKNOWN, event.score());
+    }
+
+    @Override
+    public void onBlackjack(BlackjackEvent event) {
+        if (event.participant() == GameEvent.DEALER) revealHoleCard();
+        delta(WireProtocol.BLACKJACK, event.participant(), event.hand(), WireProtocol.UNKNOWN, GameConfig.BLACKJACK_LIMIT);
+    }
+
+    @Override
+    public void onDouble(DoubleEvent event) {
+        delta(WireProtocol.DOUBLE, GameEvent.PLAYER, event.hand(), event.cardCode(), event.score());
+    }
+
+    @Override
+    public void onSplit(SplitEvent event) {
+        delta(WireProtocol.SPLIT, GameEvent.PLAYER, event.hand(), event.newHand(), WireProtocol.UNKNOWN);
+    }
+
+    @Override
+    public void onSurrender(SurrenderEvent event) {
+        delta(WireProtocol.SURRENDER, GameEvent.PLAYER, event.hand(), WireProtocol.UNKNOWN, WireProtocol.UNKNOWN);
+    }
+
+    @Override
+    public void onInsurance(InsuranceEvent event) {
+        revealHoleCard();
+        delta(WireProtocol.INSURANCE_RESULT, GameEvent.PLAYER, 0, event.won() ? 1 : 0, WireProtocol.UNKNOWN);
+    }
+
+    @Override
+    public void onOutcome(OutcomeEvent event) {
+        revealHoleCard();
+        delta(WireProtocol.OUTCOME, GameEvent.PLAYER, event.hand(), event.outcome().ordinal(), event.playerScore());
+    }
+
+    @Override
+    public void onRoundEnd(RoundEndEvent event) {
+        revealHoleCard();
+        try {
+            WireProtocol.writeHeader(out, WireProtocol.ROUND_END, 16);
+            out.writeLong(event.net());
+            out.writeLong(event.balance());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+// Остання подія раунду, після результатів усіх рук; net і balance - у копійках
+public record RoundEndEvent(int tableId, long roundId, int handCount, long net, long balance) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onRoundEnd(this);
+    }
+}
\ No newline at end of file
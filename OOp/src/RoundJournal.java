@@ -0,0 +1,193 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Бінарний журнал раундів: карти в порядку роздачі, рішення гравця та результати рук.
+// Пишеться в сегменти фіксованого розміру, відображені в пам'ять, лише дописуванням.
+// Формат запису: int довжина, int стіл, long раунд, byte прапорці (1 - страховка),
+// byte кількість рук, результати рук, byte кількість карт, коди карт,
+// byte кількість рішень, рішення (порядкові номери Action).
+// Нульова довжина позначає кінець сегмента
+public class RoundJournal implements GameEventObserver, AutoCloseable {
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".bin";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final Map<Integer, RoundBuffer> rounds = new HashMap<>();
+    private int segmentIndex;
+    private MappedByteBuffer segment;
+    private long recordsWritten;
+
+    public RoundJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public RoundJournal(Path directory, long segmentSize) throws IOException {
+        if (segmentSize < 1024 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Невірний розмір сегмента журналу: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+
+        // Новий журнал продовжує нумерацію вже наявних сегментів
+        Path[] existing = segments(directory);
+        this.segmentIndex = existing.length == 0 ? 0 : indexOf(existing[existing.length - 1]) + 1;
+        openSegment();
+    }
+
+    public static Path[] segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().toArray(Path[]::new);
+        }
+    }
+
+    private static int indexOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private void openSegment() throws IOException {
+        Path path = directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, segmentIndex++, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    public synchronized long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    @Override
+    public synchronized void onDeal(DealEvent event) {
+        round(event.tableId(), event.roundId()).addCard(event.cardCode());
+    }
+
+    @Override
+    public synchronized void onHit(HitEvent event) {
+        RoundBuffer round = round(event.tableId(), event.roundId());
+        round.addCard(event.cardCode());
+        if (event.participant() == GameEvent.PLAYER) round.addDecision(Action.HIT);
+    }
+
+    @Override
+    public synchronized void onStand(StandEvent event) {
+        if (event.participant() == GameEvent.PLAYER) {
+            round(event.tableId(), event.roundId()).addDecision(Action.STAND);
+        }
+    }
+
+    @Override
+    public synchronized void onDouble(DoubleEvent event) {
+        RoundBuffer round = round(event.tableId(), event.roundId());
+        round.addCard(event.cardCode());
+        round.addDecision(Action.DOUBLE);
+    }
+
+    @Override
+    public synchronized void onSplit(SplitEvent event) {
+        round(event.tableId(), event.roundId()).addDecision(Action.SPLIT);
+    }
+
+    @Override
+    public synchronized void onSurrender(SurrenderEvent event) {
+        round(event.tableId(), event.roundId()).addDecision(Action.SURRENDER);
+    }
+
+    @Override
+    public synchronized void onInsurance(InsuranceEvent event) {
+        round(event.tableId(), event.roundId()).insured = true;
+    }
+
+    @Override
+    public synchronized void onOutcome(OutcomeEvent event) {
+        round(event.tableId(), event.roundId()).outcomes[event.hand()] = (byte) event.outcome().ordinal();
+    }
+
+    @Override
+    public synchronized void onRoundEnd(RoundEndEvent event) {
+        RoundBuffer round = round(event.tableId(), event.roundId());
+        try {
+            append(event.tableId(), round, event.handCount());
+        } catch (IOException e) {
+            throw new IllegalStateException("Не вдалося записати журнал раундів", e);
+        }
+        round.reset(-1);
+    }
+
+    private RoundBuffer round(int tableId, long roundId) {
+        RoundBuffer round = rounds.computeIfAbsent(tableId, id -> new RoundBuffer());
+        if (round.roundId != roundId) round.reset(roundId);
+        return round;
+    }
+
+    private void append(int tableId, RoundBuffer round, int handCount) throws IOException {
+        int length = 4 + 8 + 1 + 1 + handCount + 1 + round.cardCount + 1 + round.decisionCount;
+        // Місце під запис і під нульовий маркер кінця сегмента
+        if (segment.remaining() < 4 + length + 4) {
+            segment.putInt(0);
+            segment.force();
+            openSegment();
+        }
+        segment.putInt(length);
+        segment.putInt(tableId);
+        segment.putLong(round.roundId);
+        segment.put((byte) (round.insured ? 1 : 0));
+        segment.put((byte) handCount);
+        segment.put(round.outcomes, 0, handCount);
+        segment.put((byte) round.cardCount);
+        segment.put(round.cards, 0, round.cardCount);
+        segment.put((byte) round.decisionCount);
+        segment.put(round.decisions, 0, round.decisionCount);
+        recordsWritten++;
+    }
+
+    public synchronized void flush() {
+        segment.force();
+    }
+
+    @Override
+    public synchronized void close() {
+        segment.force();
+    }
+
+    private static class RoundBuffer {
+        private long roundId = -1;
+        private boolean insured;
+        private final byte[] outcomes = new byte[GameConfig.MAX_HANDS];
+        private byte[] cards = new byte[16];
+        private int cardCount;
+        private byte[] decisions = new byte[8];
+        private int decisionCount;
+
+        void reset(long roundId) {
+            this.roundId = roundId;
+            insured = false;
+            cardCount = 0;
+            decisionCount = 0;
+        }
+
+        void addCard(int code) {
+            if (cardCount == cards.length) cards = Arrays.copyOf(cards, cards.length * 2);
+            cards[cardCount++] = (byte) code;
+        }
+
+        void addDecision(Action action) {
+            if (decisionCount == decisions.length) decisions = Arrays.copyOf(decisions, decisions.length * 2);
+            decisions[decisionCount++] = (byte) action.ordinal();
+        }
+    }
+}
\ No newline at end of file
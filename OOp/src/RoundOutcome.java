@@ -0,0 +1,11 @@
+public enum RoundOutcome {
+    PLAYER_WIN, DEALER_WIN, PUSH, PLAYER_BUST, DEALER_BUST, PLAYER_SURRENDER;
+
+    public boolean isPlayerWin() {
+        return this == PLAYER_WIN || this == DEALER_BUST;
+    }
+
+    public boolean isPlayerLoss() {
+        return this == DEALER_WIN || this == PLAYER_BUST || this == PLAYER_SURRENDER;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+// Підсумок раунду по кожній руці гравця. Один екземпляр на стіл
+// перевикористовується щораунду, тож його треба прочитати до наступного раунду
+public class RoundResult {
+    private final RoundOutcome[] outcomes = new RoundOutcome[GameConfig.MAX_HANDS];
+    private final boolean[] doubled = new boolean[GameConfig.MAX_HANDS];
+    private int handCount;
+    private boolean insured;
+    private boolean insuranceWon;
+    private long bet;
+    private long wagered;
+    private long net;
+
+    void reset(long bet) {
+        handCount = 0;
+        insured = false;
+        insuranceWon = false;
+        this.bet = bet;
+        wagered = 0;
+        net = 0;
+    }
+
+    void settle(long stake, long amount) {
+        wagered += stake;
+        net += amount;
+    }
+
+    void addHand(RoundOutcome outcome, boolean doubledHand) {
+        outcomes[handCount] = outcome;
+        doubled[handCount] = doubledHand;
+        handCount++;
+    }
+
+    void setInsurance(boolean won) {
+        insured = true;
+        insuranceWon = won;
+    }
+
+    public int getHandCount() {
+        return handCount;
+    }
+
+    public RoundOutcome getOutcome(int hand) {
+        return outcomes[hand];
+    }
+
+    // Результат першої (або єдиної) руки
+    public RoundOutcome getOutcome() {
+        return outcomes[0];
+    }
+
+    public boolean isDoubled(int hand) {
+        return doubled[hand];
+    }
+
+    public boolean isInsured() {
+        return insured;
+    }
+
+    public boolean isInsuranceWon() {
+        return insuranceWon;
+    }
+
+    // Початкова ставка на руку, у копійках
+    public long getBet() {
+        return bet;
+    }
+
+    // Усі ставки раунду: подвоєння, розділені руки та страховка
+    public long getWagered() {
+        return wagered;
+    }
+
+    // Виграш гравця за раунд (від'ємний - програш), у копійках
+    public long getNet() {
+        return net;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,356 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Незмінний набір правил столу. Завантажується з .properties або плоского JSON;
+// варіанти для порівнянь створюються через with(). Перевірки правил заздалегідь
+// зведені в прапорці та таблиці за індексом стану руки (Hand.stateIndex)
+public final class RuleSet {
+    public static final String DECKS = "decks";
+    public static final String PENETRATION = "penetration";
+    public static final String DEALER_STAND_LIMIT = "dealerStandLimit";
+    public static final String DEALER_HITS_SOFT_17 = "dealerHitsSoft17";
+    public static final String DEALER_PEEK = "dealerPeek";
+    public static final String BLACKJACK_PAYOUT = "blackjackPayout";
+    public static final String INSURANCE = "insurance";
+    public static final String INSURANCE_PAYOUT = "insurancePayout";
+    public static final String LATE_SURRENDER = "lateSurrender";
+    public static final String DOUBLE_ON = "doubleOn";
+    public static final String DOUBLE_AFTER_SPLIT = "doubleAfterSplit";
+    public static final String HIT_SPLIT_ACES = "hitSplitAces";
+    public static final String MAX_HANDS = "maxHands";
+    // Ліміти ставки столу, у грошових одиницях з копійками: "1.00", "500"
+    public static final String MIN_BET = "minBet";
+    public static final String MAX_BET = "maxBet";
+
+    private static final int STATES = (GameConfig.BLACKJACK_LIMIT + 1) * 2;
+    private static final Pattern JSON_ENTRY = Pattern.compile("\"(\\w+)\"\\s*:\\s*(\"([^\"]*)\"|[^,}\\s]+)");
+
+    public static final RuleSet DEFAULT = new RuleSet(defaults());
+
+    // Канонічні значення всіх правил у порядку ключів
+    private final Map<String, String> values;
+
+    private final int decks;
+    private final double penetration;
+    private final boolean dealerPeek;
+    private final long blackjackPayoutNumerator;
+    private final long blackjackPayoutDenominator;
+    private final boolean insurance;
+    private final long insurancePayout;
+    private final boolean lateSurrender;
+    private final boolean doubleAfterSplit;
+    private final boolean hitSplitAces;
+    private final int maxHands;
+    private final long minBet;
+    private final long maxBet;
+    private final boolean[] dealerHits = new boolean[STATES];
+    private final boolean[] doubleAllowed = new boolean[STATES];
+
+    private RuleSet(Map<String, String> values) {
+        this.values = values;
+        try {
+            decks = Integer.parseInt(values.get(DECKS));
+            penetration = Double.parseDouble(values.get(PENETRATION));
+            dealerPeek = parseBoolean(values.get(DEALER_PEEK));
+            long[] payout = parseRatio(values.get(BLACKJACK_PAYOUT));
+            blackjackPayoutNumerator = payout[0];
+            blackjackPayoutDenominator = payout[1];
+            insurance = parseBoolean(values.get(INSURANCE));
+            long[] insuranceRatio = parseRatio(values.get(INSURANCE_PAYOUT));
+            if (insuranceRatio[1] != 1) throw new IllegalArgumentException("Виплата страховки має бути N:1");
+            insurancePayout = insuranceRatio[0];
+            lateSurrender = parseBoolean(values.get(LATE_SURRENDER));
+            doubleAfterSplit = parseBoolean(values.get(DOUBLE_AFTER_SPLIT));
+            hitSplitAces = parseBoolean(values.get(HIT_SPLIT_ACES));
+            maxHands = Integer.parseInt(values.get(MAX_HANDS));
+            minBet = parseMoney(values, MIN_BET);
+            maxBet = parseMoney(values, MAX_BET);
+
+            int standLimit = Integer.parseInt(values.get(DEALER_STAND_LIMIT));
+            boolean hitsSoft = parseBoolean(values.get(DEALER_HITS_SOFT_17));
+            if (standLimit < 2 || standLimit > GameConfig.BLACKJACK_LIMIT) {
+                throw new IllegalArgumentException("Невірна межа зупинки дилера: " + standLimit);
+            }
+            for (int score = 0; score <= GameConfig.BLACKJACK_LIMIT; score++) {
+                dealerHits[score << 1] = score < standLimit;
+                dealerHits[(score << 1) | 1] = score < standLimit || (hitsSoft && score == standLimit);
+            }
+            values.put(DOUBLE_ON, fillDoubleTable(values.get(DOUBLE_ON)));
+
+            // Канонічний запис розібраних значень: "TRUE" і "true", ".75" і "0.75", "06" і "6",
+            // "6:4" і "3:2" - те саме правило, тож і equals, і ключ кешу в них однакові
+            values.put(DECKS, String.valueOf(decks));
+            values.put(PENETRATION, String.valueOf(penetration));
+            values.put(DEALER_PEEK, String.valueOf(dealerPeek));
+            values.put(BLACKJACK_PAYOUT, blackjackPayoutNumerator + ":" + blackjackPayoutDenominator);
+            values.put(INSURANCE, String.valueOf(insurance));
+            values.put(INSURANCE_PAYOUT, insurancePayout + ":1");
+            values.put(LATE_SURRENDER, String.valueOf(lateSurrender));
+            values.put(DOUBLE_AFTER_SPLIT, String.valueOf(doubleAfterSplit));
+            values.put(HIT_SPLIT_ACES, String.valueOf(hitSplitAces));
+            values.put(MAX_HANDS, String.valueOf(maxHands));
+            values.put(DEALER_STAND_LIMIT, String.valueOf(standLimit));
+            values.put(DEALER_HITS_SOFT_17, String.valueOf(hitsSoft));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Невірне значення правила: " + e.getMessage(), e);
+        }
+
+        // Точні розрахунки дилера (і таблиці стратегії) підтримують обмежену кількість колод
+        if (decks < 1 || decks > DealerProbabilityCalculator.MAX_DECKS) {
+            throw new IllegalArgumentException("Кількість колод має бути від 1 до " + DealerProbabilityCalculator.MAX_DECKS);
+        }
+        // 1 - без відрізної карти: колода збирається щораунду (Deck.create)
+        if (!(penetration > 0 && penetration <= 1)) throw new IllegalArgumentException("Проникнення має бути в межах (0; 1]");
+        if (maxHands < 1 || maxHands > GameConfig.MAX_HANDS) {
+            throw new IllegalArgumentException("Кількість рук має бути від 1 до " + GameConfig.MAX_HANDS);
+        }
+        if (minBet <= 0 || minBet > maxBet) throw new IllegalArgumentException("Невірні ліміти ставки: " + minBet + ".." + maxBet);
+        // Подвоєна ставка на кожній руці з виплатою блекджеку чи страховки не має переповнити long
+        if (maxBet > Long.MAX_VALUE / (2L * GameConfig.MAX_HANDS * Math.max(blackjackPayoutNumerator, insurancePayout))) {
+            throw new IllegalArgumentException("Завелика максимальна ставка: " + values.get(MAX_BET));
+        }
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> values = new TreeMap<>();
+        values.put(DECKS, String.valueOf(GameConfig.SHOE_DECKS));
+        values.put(PENETRATION, String.valueOf(GameConfig.SHOE_PENETRATION));
+        values.put(DEALER_STAND_LIMIT, String.valueOf(GameConfig.DEALER_STOP_LIMIT));
+        values.put(DEALER_HITS_SOFT_17, String.valueOf(GameConfig.DEALER_HITS_SOFT_17));
+        values.put(DEALER_PEEK, "true");
+        values.put(BLACKJACK_PAYOUT, GameConfig.BLACKJACK_PAYOUT_NUMERATOR + ":" + GameConfig.BLACKJACK_PAYOUT_DENOMINATOR);
+        values.put(INSURANCE, String.valueOf(GameConfig.INSURANCE));
+        values.put(INSURANCE_PAYOUT, GameConfig.INSURANCE_PAYOUT + ":1");
+        values.put(LATE_SURRENDER, String.valueOf(GameConfig.LATE_SURRENDER));
+        values.put(DOUBLE_ON, "any");
+        values.put(DOUBLE_AFTER_SPLIT, String.valueOf(GameConfig.DOUBLE_AFTER_SPLIT));
+        values.put(HIT_SPLIT_ACES, String.valueOf(GameConfig.HIT_SPLIT_ACES));
+        values.put(MAX_HANDS, String.valueOf(GameConfig.MAX_HANDS));
+        values.put(MIN_BET, Bankroll.format(GameConfig.MIN_BET));
+        values.put(MAX_BET, Bankroll.format(GameConfig.MAX_BET));
+        return values;
+    }
+
+    // Невказані правила беруться за замовчуванням
+    public static RuleSet of(Map<String, String> overrides) {
+        Map<String, String> values = defaults();
+        for (Map.Entry<String, String> entry : overrides.entrySet()) {
+            if (!values.containsKey(entry.getKey())) {
+                throw new IllegalArgumentException("Невідоме правило: " + entry.getKey());
+            }
+            values.put(entry.getKey(), entry.getValue().trim());
+        }
+        return new RuleSet(values);
+    }
+
+    public static RuleSet fromProperties(Properties properties) {
+        Map<String, String> values = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        return of(values);
+    }
+
+    // Плоский JSON-об'єкт: {"decks": 6, "dealerHitsSoft17": true, "blackjackPayout": "6:5"}
+    public static RuleSet fromJson(String json) {
+        String body = json.trim();
+        if (!body.startsWith("{") || !body.endsWith("}")) {
+            throw new IllegalArgumentException("Правила в JSON мають бути об'єктом");
+        }
+        Map<String, String> values = new TreeMap<>();
+        Matcher matcher = JSON_ENTRY.matcher(body);
+        while (matcher.find()) {
+            values.put(matcher.group(1), matcher.group(3) != null ? matcher.group(3) : matcher.group(2));
+        }
+        return of(values);
+    }
+
+    public static RuleSet load(Path path) throws IOException {
+        if (path.toString().endsWith(".json")) {
+            return fromJson(Files.readString(path, StandardCharsets.UTF_8));
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    // Копія з одним зміненим правилом
+    public RuleSet with(String key, Object value) {
+        Map<String, String> copy = new TreeMap<>(values);
+        copy.put(key, String.valueOf(value));
+        return of(copy);
+    }
+
+    // Повертає канонічний запис правила: "any" або "9-11"
+    private String fillDoubleTable(String rule) {
+        int min;
+        int max;
+        boolean soft;
+        boolean any = rule.equalsIgnoreCase("any");
+        if (any) {
+            min = 0;
+            max = GameConfig.BLACKJACK_LIMIT;
+            soft = true;
+        } else {
+            // Діапазон твердих очок, наприклад "9-11" або "10-11"
+            String[] range = rule.split("-");
+            if (range.length != 2) throw new IllegalArgumentException("Невірне правило подвоєння: " + rule);
+            min = Integer.parseInt(range[0].trim());
+            max = Integer.parseInt(range[1].trim());
+            soft = false;
+            if (min < 0 || max > GameConfig.BLACKJACK_LIMIT || min > max) {
+                throw new IllegalArgumentException("Невірний діапазон подвоєння: " + rule);
+            }
+        }
+        for (int total = min; total <= max; total++) {
+            doubleAllowed[total << 1] = true;
+            doubleAllowed[(total << 1) | 1] = soft;
+        }
+        return any ? "any" : min + "-" + max;
+    }
+
+    // Сума в копійках; у values зберігається канонічний запис, тож "10" і "10.00" - те саме правило
+    private static long parseMoney(Map<String, String> values, String key) {
+        String value = values.get(key);
+        long cents;
+        try {
+            cents = new BigDecimal(value).multiply(BigDecimal.valueOf(GameConfig.MONEY_SCALE)).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Невірна сума: " + value, e);
+        }
+        values.put(key, Bankroll.format(cents));
+        return cents;
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value.equalsIgnoreCase("true")) return true;
+        if (value.equalsIgnoreCase("false")) return false;
+        throw new IllegalArgumentException("Очікується true або false: " + value);
+    }
+
+    private static long[] parseRatio(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 2) throw new IllegalArgumentException("Очікується співвідношення N:M: " + value);
+        long numerator = Long.parseLong(parts[0].trim());
+        long denominator = Long.parseLong(parts[1].trim());
+        if (numerator <= 0 || denominator <= 0) throw new IllegalArgumentException("Невірна виплата: " + value);
+        long divisor = BigInteger.valueOf(numerator).gcd(BigInteger.valueOf(denominator)).longValueExact();
+        return new long[] {numerator / divisor, denominator / divisor};
+    }
+
+    public boolean dealerHits(Hand hand) {
+        return dealerHits[hand.stateIndex()];
+    }
+
+    public boolean dealerHits(int score, boolean soft) {
+        return dealerHits[(score << 1) | (soft ? 1 : 0)];
+    }
+
+    // Подвоєння дозволене для першого ходу з такими очками
+    public boolean canDouble(Hand hand) {
+        return doubleAllowed[hand.stateIndex()];
+    }
+
+    public boolean canDouble(int total, boolean soft) {
+        return doubleAllowed[(total << 1) | (soft ? 1 : 0)];
+    }
+
+    public int decks() {
+        return decks;
+    }
+
+    public double penetration() {
+        return penetration;
+    }
+
+    public boolean dealerPeek() {
+        return dealerPeek;
+    }
+
+    public long blackjackPayoutNumerator() {
+        return blackjackPayoutNumerator;
+    }
+
+    public long blackjackPayoutDenominator() {
+        return blackjackPayoutDenominator;
+    }
+
+    public boolean insurance() {
+        return insurance;
+    }
+
+    public long insurancePayout() {
+        return insurancePayout;
+    }
+
+    public boolean lateSurrender() {
+        return lateSurrender;
+    }
+
+    public boolean doubleAfterSplit() {
+        return doubleAfterSplit;
+    }
+
+    public boolean hitSplitAces() {
+        return hitSplitAces;
+    }
+
+    public int maxHands() {
+        return maxHands;
+    }
+
+    // Ліміти ставки в копійках
+    public long minBet() {
+        return minBet;
+    }
+
+    public long maxBet() {
+        return maxBet;
+    }
+
+    public boolean isBetAllowed(long bet) {
+        return bet >= minBet && bet <= maxBet;
+    }
+
+    public String get(String key) {
+        return values.get(key);
+    }
+
+    // Усі правила у вигляді key=value, ключі за абеткою
+    public Map<String, String> values() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RuleSet rules && values.equals(rules.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            if (out.length() > 0) out.append(", ");
+            out.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return out.toString();
+    }
+}
\ No newline at end of file
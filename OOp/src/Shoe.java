@@ -0,0 +1,29 @@
+public class Shoe extends Deck {
+    // Позиція відрізної карти: після неї шуз перемішується перед наступним раундом
+    private final int cutIndex;
+
+    public Shoe(CardFactory factory) {
+        this(factory, GameConfig.SHOE_DECKS, GameConfig.SHOE_PENETRATION);
+    }
+
+    public Shoe(CardFactory factory, int deckCount, double penetration) {
+        super(factory, deckCount);
+        // Відрізна карта в самому кінці означала б, що шуз перемішується лише порожнім
+        // і закінчується посеред раунду
+        if (!(penetration > 0 && penetration < 1)) {
+            throw new IllegalArgumentException("Проникнення шуза має бути в межах (0; 1)");
+        }
+        this.cutIndex = (int) Math.round(size() * penetration);
+    }
+
+    public boolean isCutCardReached() {
+        return size() - remaining() >= cutIndex;
+    }
+
+    @Override
+    public void prepareRound() {
+        if (isCutCardReached()) {
+            refill();
+        }
+    }
+}
\ No newline at end of file
@@ -1,10 +1,13 @@
 public class SimpleCard implements ICard {
     private final Suit suit;
     private final Rank rank;
+    // Підпис не змінюється, тож складається один раз
+    private final String displayString;
 
     public SimpleCard(Suit suit, Rank rank) {
         this.suit = suit;
         this.rank = rank;
+        this.displayString = rank + " " + suit;
     }
 
     @Override
@@ -17,9 +20,25 @@ public class SimpleCard implements ICard {
         return rank;
     }
 
+    @Override
+    public Suit getSuit() {
+        return suit;
+    }
+
     @Override
     public String getDisplayString() {
-        return rank + " " + suit;
+        return displayString;
+    }
+
+    // Карти канонічні (CardTable), тож рівність - це тотожність, а хеш - код карти
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return CardCode.encode(suit, rank);
     }
 
     @Override
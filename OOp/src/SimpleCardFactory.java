@@ -1,6 +1,8 @@
 public class SimpleCardFactory implements CardFactory {
+    static final CardTable CARDS = new CardTable(SimpleCard::new);
+
     @Override
     public ICard createCard(Suit suit, Rank rank) {
-        return new SimpleCard(suit, rank);
+        return CARDS.get(suit, rank);
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+public class SimulationMain {
+    // Аргументи: [раунди] [колоди] [seed=<число>] [count|composition] [spread=1,1,2,4,6,8] [rules=<файл>] [ci=<ставки>] [cache=<тека>]
+    // spread - кількість базових ставок для істинного рахунку 0, 1, 2, ...; вмикає рахунок карт
+    // З ci раунди - це верхня межа: гра зупиняється, щойно 95% інтервал EV вужчий за ±ci ставки
+    public static void main(String[] args) throws IOException {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        Integer decks = null;
+        Long seed = null;
+        boolean counting = false;
+        boolean composition = false;
+        BetSpread spread = null;
+        RuleSet loaded = null;
+        double targetHalfWidth = 0;
+        StrategyCache cache = new StrategyCache();
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("seed=")) seed = Long.valueOf(args[i].substring("seed=".length()));
+            else if (args[i].equals("count")) counting = true;
+            else if (args[i].equals("composition")) composition = true;
+            else if (args[i].startsWith("spread=")) spread = BetSpread.parse(GameConfig.DEFAULT_BET, args[i].substring("spread=".length()));
+            else if (args[i].startsWith("ci=")) targetHalfWidth = Double.parseDouble(args[i].substring("ci=".length()));
+            else if (args[i].startsWith("cache=")) cache = new StrategyCache(Path.of(args[i].substring("cache=".length())));
+            else if (args[i].startsWith("rules=")) loaded = RuleSet.load(Path.of(args[i].substring("rules=".length())));
+            else decks = Integer.valueOf(args[i]);
+        }
+        // Без файлу правил симуляція грає однією колодою
+        RuleSet rules = loaded != null ? loaded : RuleSet.DEFAULT.with(RuleSet.DECKS, 1);
+        if (decks != null) rules = rules.with(RuleSet.DECKS, decks);
+
+        if (spread != null) counting = true;
+        CardFactory factory = new SimpleCardFactory();
+        boolean withCounter = counting;
+        BetSpread betSpread = spread;
+        RuleSet tableRules = rules;
+        Supplier<Deck> deckSupplier = () -> {
+            Deck deck = Deck.create(factory, tableRules);
+            if (withCounter) deck.setCounter(new CardCounter(CountingSystem.HI_LO, betSpread));
+            return deck;
+        };
+
+        // Таблиця незмінна, тому один екземпляр стратегії спільний для всіх потоків
+        BasicStrategy basic = cache.strategy(rules);
+        MoveStrategy strategy = counting ? CountingStrategy.hiLo(basic)
+                : composition ? new CompositionSolver(rules, ForkJoinPool.commonPool()).solve(basic) : basic;
+        Simulator simulator = new Simulator(deckSupplier, () -> strategy, rules, ForkJoinPool.commonPool());
+
+        long startTime = System.nanoTime();
+        SimulationResult result;
+        if (targetHalfWidth > 0) {
+            result = simulator.runUntil(targetHalfWidth * GameConfig.DEFAULT_BET, rounds,
+                    seed != null ? seed : System.nanoTime());
+        } else {
+            result = seed != null ? simulator.run(rounds, seed) : simulator.run(rounds);
+        }
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        if (result.getErrors() == 0) cache.putEv(rules, spread != null ? "hilo-spread-" + spread.getUnit() + "-" + spread.getSpec() : counting ? "hilo" : composition ? "composition" : "basic", result);
+
+        System.out.println("--- СИМУЛЯЦІЯ ---");
+        System.out.println("Правила: " + rules);
+        if (spread != null) System.out.println("Ставки за рахунком: " + spread);
+        System.out.println(result);
+        OnlineStats net = result.getNetStats();
+        System.out.printf(Locale.ROOT, "Середнє за раунд: %.4f ± %.4f ставки (95%%) | Стандартне відхилення: %.4f ставки%n",
+                net.getMean() / GameConfig.DEFAULT_BET, net.getHalfWidth(ConvergenceMonitor.Z_95) / GameConfig.DEFAULT_BET,
+                net.getStddev() / GameConfig.DEFAULT_BET);
+        StringBuilder rates = new StringBuilder("Рук за раунд:");
+        for (RoundOutcome outcome : RoundOutcome.values()) {
+            OnlineStats stats = result.getOutcomeStats(outcome);
+            rates.append(String.format(Locale.ROOT, " %s %.4f±%.4f", outcome.name().toLowerCase(Locale.ROOT),
+                    stats.getMean(), stats.getHalfWidth(ConvergenceMonitor.Z_95)));
+        }
+        System.out.println(rates);
+        System.out.printf(Locale.ROOT, "Ризик розорення з банкролом %s: %.4f%%%n",
+                Bankroll.format(GameConfig.DEFAULT_BANKROLL), result.getRiskOfRuin(GameConfig.DEFAULT_BANKROLL) * 100);
+        System.out.println("Час: " + elapsedMs + " мс");
+    }
+}
\ No newline at end of file
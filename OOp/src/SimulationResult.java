@@ -0,0 +1,204 @@
+import java.util.Locale;
+
+// Результати рахуються по руках: після розділення один раунд дає кілька рук
+public class SimulationResult {
+    private static final RoundOutcome[] OUTCOMES = RoundOutcome.values();
+
+    private long rounds;
+    private long playerWins;
+    private long dealerWins;
+    private long pushes;
+    private long playerBusts;
+    private long dealerBusts;
+    private long surrenders;
+    private long doubles;
+    private long splits;
+    private long insured;
+    private long insuranceWins;
+    private long errors;
+    // Гроші в копійках
+    private long wagered;
+    private long net;
+    // Статистика Велфорда за раунд: виграш і кількість рук з кожним результатом.
+    // Лічильник у всіх результатів спільний (rounds), тож ділення одне на раунд
+    private final OnlineStats netStats = new OnlineStats();
+    private final double[] outcomeMeans = new double[OUTCOMES.length];
+    private final double[] outcomeM2 = new double[OUTCOMES.length];
+    private final int[] roundOutcomes = new int[OUTCOMES.length];
+
+    public void record(RoundResult result) {
+        rounds++;
+        wagered += result.getWagered();
+        net += result.getNet();
+        netStats.add(result.getNet());
+        splits += result.getHandCount() - 1;
+        if (result.isInsured()) {
+            insured++;
+            if (result.isInsuranceWon()) insuranceWins++;
+        }
+        for (int i = 0; i < result.getHandCount(); i++) {
+            if (result.isDoubled(i)) doubles++;
+            record(result.getOutcome(i));
+            roundOutcomes[result.getOutcome(i).ordinal()]++;
+        }
+        double weight = 1.0 / rounds;
+        for (int i = 0; i < roundOutcomes.length; i++) {
+            double delta = roundOutcomes[i] - outcomeMeans[i];
+            outcomeMeans[i] += delta * weight;
+            outcomeM2[i] += delta * (roundOutcomes[i] - outcomeMeans[i]);
+            roundOutcomes[i] = 0;
+        }
+    }
+
+    private void record(RoundOutcome outcome) {
+        switch (outcome) {
+            case PLAYER_WIN: playerWins++; break;
+            case DEALER_WIN: dealerWins++; break;
+            case PUSH: pushes++; break;
+            case PLAYER_BUST: playerBusts++; break;
+            case DEALER_BUST: dealerBusts++; break;
+            case PLAYER_SURRENDER: surrenders++; break;
+        }
+    }
+
+    public void recordError() {
+        errors++;
+    }
+
+    public SimulationResult merge(SimulationResult other) {
+        for (int i = 0; i < outcomeMeans.length; i++) {
+            OnlineStats merged = getOutcomeStats(OUTCOMES[i]).merge(other.getOutcomeStats(OUTCOMES[i]));
+            outcomeMeans[i] = merged.getMean();
+            outcomeM2[i] = merged.getM2();
+        }
+        rounds += other.rounds;
+        playerWins += other.playerWins;
+        dealerWins += other.dealerWins;
+        pushes += other.pushes;
+        playerBusts += other.playerBusts;
+        dealerBusts += other.dealerBusts;
+        surrenders += other.surrenders;
+        doubles += other.doubles;
+        splits += other.splits;
+        insured += other.insured;
+        insuranceWins += other.insuranceWins;
+        errors += other.errors;
+        wagered += other.wagered;
+        net += other.net;
+        netStats.merge(other.netStats);
+        return this;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getHands() {
+        return playerWins + dealerWins + pushes + playerBusts + dealerBusts + surrenders;
+    }
+
+    // Перемоги гравця з урахуванням перебору дилера
+    public long getWins() {
+        return playerWins + dealerBusts;
+    }
+
+    // Програші гравця з урахуванням власного перебору (без капітуляцій)
+    public long getLosses() {
+        return dealerWins + playerBusts;
+    }
+
+    public long getPushes() {
+        return pushes;
+    }
+
+    public long getPlayerBusts() {
+        return playerBusts;
+    }
+
+    public long getDealerBusts() {
+        return dealerBusts;
+    }
+
+    public long getSurrenders() {
+        return surrenders;
+    }
+
+    public long getDoubles() {
+        return doubles;
+    }
+
+    public long getSplits() {
+        return splits;
+    }
+
+    public long getInsured() {
+        return insured;
+    }
+
+    public long getInsuranceWins() {
+        return insuranceWins;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getWagered() {
+        return wagered;
+    }
+
+    public long getNet() {
+        return net;
+    }
+
+    // Середній виграш за раунд, у копійках
+    public double getMeanNet() {
+        return netStats.getMean();
+    }
+
+    // Дисперсія виграшу за раунд, у копійках у квадраті
+    public double getNetVariance() {
+        return netStats.getVariance();
+    }
+
+    public OnlineStats getNetStats() {
+        return netStats.copy();
+    }
+
+    // Середня кількість рук з цим результатом за раунд та її дисперсія
+    public OnlineStats getOutcomeStats(RoundOutcome outcome) {
+        return OnlineStats.of(rounds, outcomeMeans[outcome.ordinal()], outcomeM2[outcome.ordinal()]);
+    }
+
+    // Повернення гравцю відносно всіх ставок (від'ємне - перевага казино)
+    public double getReturn() {
+        return wagered == 0 ? 0 : (double) net / wagered;
+    }
+
+    // Наближена ймовірність програти весь банкрол: exp(-2 * середнє * банкрол / дисперсія)
+    public double getRiskOfRuin(long bankroll) {
+        double mean = getMeanNet();
+        double variance = getNetVariance();
+        if (mean <= 0) return 1;
+        if (variance == 0) return 0;
+        return Math.exp(-2 * mean * bankroll / variance);
+    }
+
+    @Override
+    public String toString() {
+        return "Раундів: " + getRounds() +
+                " | Перемоги: " + getWins() +
+                " | Програші: " + getLosses() +
+                " | Нічиї: " + pushes +
+                " | Перебір гравця: " + playerBusts +
+                " | Перебір дилера: " + dealerBusts +
+                " | Подвоєння: " + doubles +
+                " | Розділення: " + splits +
+                " | Капітуляції: " + surrenders +
+                " | Страховки: " + insured +
+                " | Поставлено: " + Bankroll.format(wagered) +
+                " | Результат: " + Bankroll.format(net) +
+                String.format(Locale.ROOT, " | Повернення: %.3f%%", getReturn() * 100) +
+                (errors > 0 ? " | Помилки: " + errors : "");
+    }
+}
\ No newline at end of file
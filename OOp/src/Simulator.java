@@ -0,0 +1,145 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+public class Simulator {
+    // Кожна підзадача грає свою порцію раундів на власному столі
+    private static final long CHUNK_SIZE = 50_000;
+    // Як часто порція звітує монітору збіжності
+    private static final long BATCH_SIZE = 5_000;
+
+    private final Supplier<Deck> deckSupplier;
+    private final Supplier<MoveStrategy> playerStrategy;
+    private final ForkJoinPool pool;
+    private final RuleSet rules;
+    private GameMetrics metrics;
+
+    public Simulator(CardFactory cardFactory, Supplier<MoveStrategy> playerStrategy) {
+        this(() -> new Deck(cardFactory), playerStrategy);
+    }
+
+    public Simulator(Supplier<Deck> deckSupplier, Supplier<MoveStrategy> playerStrategy) {
+        this(deckSupplier, playerStrategy, ForkJoinPool.commonPool());
+    }
+
+    public Simulator(Supplier<Deck> deckSupplier, Supplier<MoveStrategy> playerStrategy, ForkJoinPool pool) {
+        this(deckSupplier, playerStrategy, RuleSet.DEFAULT, pool);
+    }
+
+    // Набір правил незмінний, тож один екземпляр спільний для всіх підзадач
+    public Simulator(Supplier<Deck> deckSupplier, Supplier<MoveStrategy> playerStrategy, RuleSet rules,
+                     ForkJoinPool pool) {
+        this.deckSupplier = deckSupplier;
+        this.playerStrategy = playerStrategy;
+        this.rules = rules;
+        this.pool = pool;
+    }
+
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public SimulationResult run(long rounds) {
+        return run(rounds, new SplittableRandom());
+    }
+
+    // З однаковим сідом результат однаковий незалежно від кількості потоків
+    public SimulationResult run(long rounds, long seed) {
+        return run(rounds, new SplittableRandom(seed));
+    }
+
+    private SimulationResult run(long rounds, SplittableRandom random) {
+        return pool.invoke(task(rounds, random, null));
+    }
+
+    // Грає, доки 95% інтервал EV не стане вужчим за targetHalfWidth (у копійках за раунд),
+    // але не більше maxRounds. Кількість зіграних раундів залежить від планування потоків
+    public SimulationResult runUntil(double targetHalfWidth, long maxRounds, long seed) {
+        return pool.invoke(task(maxRounds, seed, new ConvergenceMonitor(targetHalfWidth)));
+    }
+
+    // Задача для запуску всередині іншої fork-join задачі (наприклад, клітинки перебору):
+    // вона ділиться на порції того ж розміру, що й звичайний запуск
+    public ForkJoinTask<SimulationResult> task(long rounds, long seed) {
+        return task(rounds, seed, null);
+    }
+
+    // monitor == null - без ранньої зупинки
+    public ForkJoinTask<SimulationResult> task(long rounds, long seed, ConvergenceMonitor monitor) {
+        return task(rounds, new SplittableRandom(seed), monitor);
+    }
+
+    private RoundsTask task(long rounds, SplittableRandom random, ConvergenceMonitor monitor) {
+        if (rounds < 0) throw new IllegalArgumentException("Кількість раундів не може бути від'ємною");
+        return new RoundsTask(rounds, random, monitor);
+    }
+
+    private SimulationResult playChunk(long rounds, SplittableRandom random, ConvergenceMonitor monitor) {
+        Deck deck = deckSupplier.get();
+        deck.setRandom(random);
+        GameManager table = new GameManager(deck,
+                new Player("Бот", playerStrategy.get()), rules);
+        if (metrics != null) table.setMetrics(metrics);
+        SimulationResult result = new SimulationResult();
+
+        if (monitor == null) {
+            for (long i = 0; i < rounds; i++) {
+                try {
+                    result.record(table.playHeadlessRound());
+                } catch (GameException e) {
+                    result.recordError();
+                }
+            }
+            return result;
+        }
+
+        OnlineStats batch = new OnlineStats();
+        for (long i = 0; i < rounds && !monitor.isConverged(); i++) {
+            try {
+                RoundResult round = table.playHeadlessRound();
+                result.record(round);
+                batch.add(round.getNet());
+            } catch (GameException e) {
+                result.recordError();
+            }
+            if (batch.getCount() == BATCH_SIZE) {
+                monitor.merge(batch);
+                batch.reset();
+            }
+        }
+        monitor.merge(batch);
+        return result;
+    }
+
+    private class RoundsTask extends RecursiveTask<SimulationResult> {
+        private final long rounds;
+        // Кожна підзадача отримує власний незалежний потік випадкових чисел
+        private final SplittableRandom random;
+        private final ConvergenceMonitor monitor;
+
+        RoundsTask(long rounds, SplittableRandom random, ConvergenceMonitor monitor) {
+            this.rounds = rounds;
+            this.random = random;
+            this.monitor = monitor;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            // Після збіжності решта дерева задач не ділиться і не грає
+            if (monitor != null && monitor.isConverged()) {
+                return new SimulationResult();
+            }
+            if (rounds <= CHUNK_SIZE) {
+                return playChunk(rounds, random, monitor);
+            }
+
+            long half = rounds / 2;
+            RoundsTask left = new RoundsTask(half, random.split(), monitor);
+            left.fork();
+            SimulationResult right = new RoundsTask(rounds - half, random, monitor).compute();
+            return right.merge(left.join());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+// Пара з руки hand розділена; друга карта перейшла в руку newHand
+public record SplitEvent(int tableId, long roundId, int hand, int newHand) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onSplit(this);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+public record StandEvent(int tableId, long roundId, int participant, int hand, int score) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onStand(this);
+    }
+}
\ No newline at end of file
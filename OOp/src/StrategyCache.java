@@ -0,0 +1,272 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// Кеш таблиць стратегії та підсумків EV. Ключ - SHA-256 канонічного запису правил
+// (RuleSet зводить значення до канонічного вигляду), тож однакові правила завжди дають
+// той самий файл. Таблиця стратегії залежить лише від частини правил, тож її ключ
+// будується тільки з них, а підсумок EV - з усіх.
+// Перед диском стоїть LRU в пам'яті; на диску найдавніше використані файли
+// видаляються, щойно тека перевищує ліміт розміру
+public class StrategyCache {
+    // Змінюється разом із форматом файлів або алгоритмом генератора
+    private static final String VERSION = "strategy-v2";
+    private static final String STRATEGY_SUFFIX = ".bjst";
+    private static final String EV_SUFFIX = ".ev";
+    private static final int EV_MAGIC = 0x424A4556; // "BJEV"
+
+    // Правила, від яких залежить таблиця BasicStrategyGenerator; проникнення, ліміти ставок
+    // і страховка її не змінюють, тож перебір за ними бере ту саму таблицю
+    private static final List<String> STRATEGY_RULES = List.of(
+            RuleSet.DECKS, RuleSet.DEALER_STAND_LIMIT, RuleSet.DEALER_HITS_SOFT_17, RuleSet.DEALER_PEEK,
+            RuleSet.LATE_SURRENDER, RuleSet.DOUBLE_ON, RuleSet.DOUBLE_AFTER_SPLIT, RuleSet.HIT_SPLIT_ACES,
+            RuleSet.MAX_HANDS);
+
+    public static final int DEFAULT_MEMORY_ENTRIES = 64;
+    public static final long DEFAULT_DISK_BYTES = 64L << 20;
+
+    private final Path directory;
+    private final long maxDiskBytes;
+    private final Map<String, Object> memory;
+    // Одна генерація на ключ, навіть якщо таблицю одночасно просять кілька потоків
+    private final Map<String, CompletableFuture<BasicStrategy>> inFlight = new ConcurrentHashMap<>();
+
+    // Лише кеш у пам'яті
+    public StrategyCache() {
+        this(null, DEFAULT_MEMORY_ENTRIES, 0);
+    }
+
+    public StrategyCache(Path directory) throws IOException {
+        this(directory, DEFAULT_MEMORY_ENTRIES, DEFAULT_DISK_BYTES);
+        Files.createDirectories(directory);
+    }
+
+    public StrategyCache(Path directory, long maxDiskBytes) throws IOException {
+        this(directory, DEFAULT_MEMORY_ENTRIES, maxDiskBytes);
+        Files.createDirectories(directory);
+    }
+
+    private StrategyCache(Path directory, int memoryEntries, long maxDiskBytes) {
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > memoryEntries;
+            }
+        };
+    }
+
+    // Хеш усіх правил у шістнадцятковому вигляді; однаковий між запусками та машинами
+    public static String key(RuleSet rules) {
+        return hash(VERSION + "\n" + rules);
+    }
+
+    // Хеш лише правил, що впливають на таблицю стратегії
+    public static String strategyKey(RuleSet rules) {
+        StringBuilder text = new StringBuilder(VERSION);
+        for (String rule : STRATEGY_RULES) {
+            text.append('\n').append(rule).append('=').append(rules.get(rule));
+        }
+        return hash(text.toString());
+    }
+
+    private static String hash(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public BasicStrategy strategy(RuleSet rules) {
+        String key = strategyKey(rules);
+        BasicStrategy cached = (BasicStrategy) fromMemory(key + STRATEGY_SUFFIX);
+        if (cached != null) return cached;
+
+        CompletableFuture<BasicStrategy> created = new CompletableFuture<>();
+        CompletableFuture<BasicStrategy> pending = inFlight.putIfAbsent(key, created);
+        if (pending != null) return pending.join();
+
+        try {
+            BasicStrategy strategy = loadStrategy(key);
+            if (strategy == null) {
+                strategy = BasicStrategyGenerator.generate(rules);
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+                strategy.writeBinary(bytes);
+                store(key + STRATEGY_SUFFIX, bytes.toByteArray());
+            }
+            toMemory(key + STRATEGY_SUFFIX, strategy);
+            created.complete(strategy);
+            return strategy;
+        } catch (IOException | RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    // Підсумок симуляції для правил і назви стратегії гравця; null - ще не рахувався
+    public EvSummary ev(RuleSet rules, String strategyName) {
+        String name = key(rules) + "-" + strategyName + EV_SUFFIX;
+        EvSummary cached = (EvSummary) fromMemory(name);
+        if (cached != null) return cached;
+
+        byte[] data = read(name);
+        if (data == null) return null;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != EV_MAGIC) return null;
+            OnlineStats net = OnlineStats.of(in.readLong(), in.readDouble(), in.readDouble());
+            EvSummary summary = new EvSummary(net, in.readLong(), in.readLong());
+            toMemory(name, summary);
+            return summary;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public EvSummary putEv(RuleSet rules, String strategyName, SimulationResult result) {
+        String name = key(rules) + "-" + strategyName + EV_SUFFIX;
+        EvSummary summary = new EvSummary(result.getNetStats(), result.getHands(), result.getWagered());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(48);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(EV_MAGIC);
+            out.writeLong(summary.net().getCount());
+            out.writeDouble(summary.net().getMean());
+            out.writeDouble(summary.net().getM2());
+            out.writeLong(summary.hands());
+            out.writeLong(summary.wagered());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        toMemory(name, summary);
+        store(name, bytes.toByteArray());
+        return summary;
+    }
+
+    // Виграш гравця за раунд у центах; net не змінюється після створення
+    public record EvSummary(OnlineStats net, long hands, long wagered) {
+        public long rounds() {
+            return net.getCount();
+        }
+
+        public double getReturn() {
+            return wagered == 0 ? 0 : net.getMean() * net.getCount() / wagered;
+        }
+
+        // Чи вистачає збереженого результату для запиту: стільки ж раундів або вужчий інтервал
+        public boolean satisfies(long rounds, double targetHalfWidthCents) {
+            if (net.getCount() >= rounds) return true;
+            return targetHalfWidthCents > 0 && net.getHalfWidth(ConvergenceMonitor.Z_95) <= targetHalfWidthCents;
+        }
+    }
+
+    private BasicStrategy loadStrategy(String key) {
+        byte[] data = read(key + STRATEGY_SUFFIX);
+        if (data == null) return null;
+        try {
+            return BasicStrategy.readBinary(new ByteArrayInputStream(data));
+        } catch (IOException | IllegalArgumentException e) {
+            // Пошкоджений файл просто перераховується
+            return null;
+        }
+    }
+
+    private synchronized Object fromMemory(String name) {
+        return memory.get(name);
+    }
+
+    private synchronized void toMemory(String name, Object value) {
+        memory.put(name, value);
+    }
+
+    // Читання оновлює час файлу: за ним диск визначає найдавніше використані записи
+    private byte[] read(String name) {
+        if (directory == null) return null;
+        Path path = directory.resolve(name);
+        try {
+            byte[] data = Files.readAllBytes(path);
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+            return data;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Запис атомарний: інший процес ніколи не побачить файл наполовину записаним
+    private void store(String name, byte[] data) {
+        if (directory == null) return;
+        Path path = directory.resolve(name);
+        Path temp = null;
+        try {
+            // Унікальне ім'я навіть для кількох процесів, що пишуть в одну теку
+            temp = Files.createTempFile(directory, name, ".tmp");
+            Files.write(temp, data);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evict();
+        } catch (IOException e) {
+            System.err.println("Не вдалося записати кеш стратегій: " + e.getMessage());
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Залишок прибере наступний запис або користувач
+                }
+            }
+        }
+    }
+
+    private synchronized void evict() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> list = Files.list(directory)) {
+            list.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.endsWith(STRATEGY_SUFFIX) || name.endsWith(EV_SUFFIX);
+            }).forEach(files::add);
+        }
+        long total = 0;
+        Map<Path, FileTime> times = new LinkedHashMap<>();
+        Map<Path, Long> sizes = new LinkedHashMap<>();
+        for (Path file : files) {
+            try {
+                times.put(file, Files.getLastModifiedTime(file));
+                sizes.put(file, Files.size(file));
+                total += sizes.get(file);
+            } catch (NoSuchFileException e) {
+                // Файл щойно видалив інший процес
+            }
+        }
+        if (total <= maxDiskBytes) return;
+
+        List<Path> oldestFirst = new ArrayList<>(times.keySet());
+        oldestFirst.sort(Comparator.comparing(times::get));
+        for (Path file : oldestFirst) {
+            if (total <= maxDiskBytes) break;
+            Files.deleteIfExists(file);
+            total -= sizes.get(file);
+        }
+    }
+}
\ No newline at end of file
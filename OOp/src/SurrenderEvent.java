@@ -0,0 +1,6 @@
+public record SurrenderEvent(int tableId, long roundId, int hand) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onSurrender(this);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Сітка параметрів для перебору. Рядок файлу: ключ=значення1,значення2,...
+// або ключ=від..до для цілих. Ключі - правила RuleSet і STRATEGY
+// ("basic" - базова стратегія, число - брати карту до цього порогу)
+public class SweepGrid {
+    public static final String STRATEGY = "strategy";
+
+    private final Map<String, List<String>> axes;
+
+    public SweepGrid(Map<String, List<String>> axes) {
+        for (Map.Entry<String, List<String>> axis : axes.entrySet()) {
+            if (axis.getValue().isEmpty()) throw new IllegalArgumentException("Порожня вісь: " + axis.getKey());
+        }
+        this.axes = new LinkedHashMap<>(axes);
+    }
+
+    public static SweepGrid parse(List<String> lines) {
+        Map<String, List<String>> axes = new LinkedHashMap<>();
+        for (String line : lines) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            int separator = line.indexOf('=');
+            if (separator < 0) throw new IllegalArgumentException("Невірний рядок сітки: " + line);
+            String key = line.substring(0, separator).trim();
+            List<String> values = new ArrayList<>();
+            for (String value : line.substring(separator + 1).split(",")) {
+                expand(value.trim(), values);
+            }
+            axes.put(key, values);
+        }
+        return new SweepGrid(axes);
+    }
+
+    public static SweepGrid load(Path path) throws IOException {
+        return parse(Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    private static void expand(String value, List<String> values) {
+        int range = value.indexOf("..");
+        if (range < 0) {
+            values.add(value);
+            return;
+        }
+        int from = Integer.parseInt(value.substring(0, range).trim());
+        int to = Integer.parseInt(value.substring(range + 2).trim());
+        for (int i = from; i <= to; i++) {
+            values.add(String.valueOf(i));
+        }
+    }
+
+    public List<String> keys() {
+        return List.copyOf(axes.keySet());
+    }
+
+    public int size() {
+        int size = 1;
+        for (List<String> values : axes.values()) size *= values.size();
+        return size;
+    }
+
+    // Декартів добуток осей; остання вісь змінюється найшвидше
+    public List<Map<String, String>> cells() {
+        List<Map<String, String>> cells = new ArrayList<>(size());
+        cells.add(Collections.emptyMap());
+        for (Map.Entry<String, List<String>> axis : axes.entrySet()) {
+            List<Map<String, String>> next = new ArrayList<>();
+            for (Map<String, String> cell : cells) {
+                for (String value : axis.getValue()) {
+                    Map<String, String> extended = new LinkedHashMap<>(cell);
+                    extended.put(axis.getKey(), value);
+                    next.add(extended);
+                }
+            }
+            cells = next;
+        }
+        return cells;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class SweepMain {
+    // Аргументи: <файл сітки> [раунди на клітинку] [csv-файл або -] [seed=<число>] [rules=<файл>] [ci=<ставки>] [cache=<тека>]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Використання: SweepMain <сітка> [раунди] [вихід.csv] [seed=N] [rules=<файл>] [ci=<ставки>] [cache=<тека>]");
+            return;
+        }
+        SweepGrid grid = SweepGrid.load(Path.of(args[0]));
+        long rounds = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+        String output = args.length > 2 ? args[2] : "-";
+        long seed = System.nanoTime();
+        RuleSet rules = RuleSet.DEFAULT;
+        double targetHalfWidth = 0;
+        Path cacheDir = null;
+        for (int i = 3; i < args.length; i++) {
+            if (args[i].startsWith("seed=")) seed = Long.parseLong(args[i].substring("seed=".length()));
+            else if (args[i].startsWith("ci=")) targetHalfWidth = Double.parseDouble(args[i].substring("ci=".length()));
+            else if (args[i].startsWith("rules=")) rules = RuleSet.load(Path.of(args[i].substring("rules=".length())));
+            else if (args[i].startsWith("cache=")) cacheDir = Path.of(args[i].substring("cache=".length()));
+        }
+
+        SweepRunner runner = new SweepRunner(rules, rounds);
+        runner.setTargetHalfWidth(targetHalfWidth);
+        if (cacheDir != null) runner.setCache(new StrategyCache(cacheDir));
+        long startTime = System.nanoTime();
+        try (Writer out = output.equals("-")
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+            runner.run(grid, seed, out);
+        }
+        long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+        System.err.println("Клітинок: " + grid.size() + " | Час: " + elapsedMs + " мс");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,154 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Перебір сітки параметрів на спільному fork-join пулі. Усі клітинки стають
+// задачами одночасно, а кожна ділиться на порції Simulator однакового розміру,
+// тож велика клітинка не забирає пул у решти. Рядок CSV пишеться одразу, щойно клітинка готова
+public class SweepRunner {
+    private final RuleSet baseRules;
+    private final long roundsPerCell;
+    private final ForkJoinPool pool;
+    private final CardFactory factory = new SimpleCardFactory();
+    // Клітинки з однаковими правилами ділять одну таблицю стратегії
+    private StrategyCache cache = new StrategyCache();
+    // Ширина півінтервалу EV у ставках; 0 - кожна клітинка грає всі раунди
+    private double targetHalfWidth;
+
+    public SweepRunner(RuleSet baseRules, long roundsPerCell) {
+        this(baseRules, roundsPerCell, ForkJoinPool.commonPool());
+    }
+
+    public SweepRunner(RuleSet baseRules, long roundsPerCell, ForkJoinPool pool) {
+        if (roundsPerCell <= 0) throw new IllegalArgumentException("Кількість раундів має бути додатною");
+        this.baseRules = baseRules;
+        this.roundsPerCell = roundsPerCell;
+        this.pool = pool;
+    }
+
+    // Рання зупинка: клітинка завершується, щойно її 95% інтервал EV вужчий за ±halfWidth ставки;
+    // roundsPerCell тоді - верхня межа
+    public void setTargetHalfWidth(double halfWidth) {
+        this.targetHalfWidth = halfWidth;
+    }
+
+    // Дисковий кеш: таблиці та готові результати клітинок переживають запуск
+    public void setCache(StrategyCache cache) {
+        this.cache = cache;
+    }
+
+    // Порядок рядків у CSV - порядок завершення; стовпець cell - номер клітинки в сітці
+    public void run(SweepGrid grid, long seed, Writer out) throws IOException {
+        CsvSink sink = new CsvSink(out, grid.keys());
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<CellTask> tasks = new ArrayList<>();
+        int index = 0;
+        for (Map<String, String> cell : grid.cells()) {
+            tasks.add(new CellTask(index++, cell, seeds.nextLong(), sink));
+        }
+
+        try {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class CellTask extends RecursiveAction {
+        private final int index;
+        private final Map<String, String> cell;
+        private final long seed;
+        private final CsvSink sink;
+
+        CellTask(int index, Map<String, String> cell, long seed, CsvSink sink) {
+            this.index = index;
+            this.cell = cell;
+            this.seed = seed;
+            this.sink = sink;
+        }
+
+        @Override
+        protected void compute() {
+            long startTime = System.nanoTime();
+            RuleSet rules = baseRules;
+            String strategyName = "basic";
+            for (Map.Entry<String, String> entry : cell.entrySet()) {
+                if (entry.getKey().equals(SweepGrid.STRATEGY)) strategyName = entry.getValue();
+                else rules = rules.with(entry.getKey(), entry.getValue());
+            }
+
+            RuleSet cellRules = rules;
+            double targetCents = targetHalfWidth * GameConfig.DEFAULT_BET;
+            StrategyCache.EvSummary cached = cache.ev(cellRules, strategyName);
+            if (cached != null && cached.satisfies(roundsPerCell, targetCents)) {
+                sink.write(index, cell, cached, 0, (System.nanoTime() - startTime) / 1_000_000);
+                return;
+            }
+
+            MoveStrategy strategy = strategyName.equals("basic")
+                    ? cache.strategy(cellRules)
+                    : new ThresholdStrategy(Integer.parseInt(strategyName));
+            Simulator simulator = new Simulator(() -> Deck.create(factory, cellRules), () -> strategy, cellRules, pool);
+
+            // Порції клітинки виконуються в цьому ж пулі й доступні для крадіжки
+            ConvergenceMonitor monitor = targetHalfWidth > 0 ? new ConvergenceMonitor(targetCents) : null;
+            SimulationResult result = simulator.task(roundsPerCell, seed, monitor).invoke();
+            StrategyCache.EvSummary summary = result.getErrors() == 0
+                    ? cache.putEv(cellRules, strategyName, result)
+                    : new StrategyCache.EvSummary(result.getNetStats(), result.getHands(), result.getWagered());
+            sink.write(index, cell, summary, result.getErrors(), (System.nanoTime() - startTime) / 1_000_000);
+        }
+    }
+
+    private static class CsvSink {
+        private final Writer out;
+        private final List<String> keys;
+
+        CsvSink(Writer out, List<String> keys) throws IOException {
+            this.out = out;
+            this.keys = keys;
+            StringBuilder header = new StringBuilder("cell");
+            for (String key : keys) header.append(',').append(key);
+            header.append(",rounds,hands,ev,stddev,ci_low,ci_high,return,errors,elapsed_ms\n");
+            out.write(header.toString());
+            out.flush();
+        }
+
+        // EV, відхилення та інтервал - у початкових ставках за раунд
+        synchronized void write(int index, Map<String, String> cell, StrategyCache.EvSummary result,
+                                long errors, long elapsedMs) {
+            double bet = GameConfig.DEFAULT_BET;
+            OnlineStats net = result.net();
+            double ev = net.getMean() / bet;
+            double stddev = net.getStddev() / bet;
+            double halfWidth = net.getHalfWidth(ConvergenceMonitor.Z_95) / bet;
+
+            StringBuilder line = new StringBuilder().append(index);
+            for (String key : keys) line.append(',').append(cell.get(key));
+            line.append(',').append(result.rounds())
+                    .append(',').append(result.hands())
+                    .append(String.format(Locale.ROOT, ",%.6f,%.6f,%.6f,%.6f,%.6f",
+                            ev, stddev, ev - halfWidth, ev + halfWidth, result.getReturn()))
+                    .append(',').append(errors)
+                    .append(',').append(elapsedMs).append('\n');
+            try {
+                out.write(line.toString());
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+import java.util.concurrent.Future;
+
+// Окремий стіл зі своєю колодою, учасниками та спостерігачами
+public class Table implements Runnable {
+    private final int id;
+    private final GameManager game;
+    private final long maxRounds;
+    private final SimulationResult result = new SimulationResult();
+    private volatile boolean running = true;
+    private Future<?> future;
+
+    public Table(int id, Deck deck, MoveStrategy playerStrategy, long maxRounds) {
+        this(id, deck, playerStrategy, RuleSet.DEFAULT, maxRounds);
+    }
+
+    public Table(int id, Deck deck, MoveStrategy playerStrategy, RuleSet rules, long maxRounds) {
+        this.id = id;
+        this.game = new GameManager(deck, new Player("Гравець", playerStrategy), rules);
+        this.game.setTableId(id);
+        this.maxRounds = maxRounds;
+    }
+
+    // Стіл зі знімка: той самий номер, колода, руки й банкрол; незавершений раунд догравається першим
+    public Table(TableSnapshot snapshot, Deck deck, MoveStrategy playerStrategy, RuleSet rules, long maxRounds) {
+        this(snapshot.getTableId(), deck, playerStrategy, rules, maxRounds);
+        game.restore(snapshot);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public void addObserver(GameObserver observer) {
+        game.addObserver(observer);
+    }
+
+    public void addEventObserver(GameEventObserver observer) {
+        game.addEventObserver(observer);
+    }
+
+    public void setMetrics(GameMetrics metrics) {
+        game.setMetrics(metrics);
+    }
+
+    public void setEventBus(GameEventBus eventBus) {
+        game.setEventBus(eventBus);
+    }
+
+    public void setCheckpointStore(CheckpointStore checkpoints) {
+        game.setCheckpointStore(checkpoints);
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    @Override
+    public void run() {
+        long played = 0;
+        try {
+            if (game.hasPendingRound()) {
+                play(true);
+                played++;
+            }
+            while (running && !Thread.currentThread().isInterrupted() && (maxRounds <= 0 || played < maxRounds)) {
+                play(false);
+                played++;
+            }
+        } finally {
+            // Зазвичай цикл завершується між раундами; виняток стратегії чи спостерігача теж
+            // зупиняє стіл, і останній стан записується незалежно від періоду
+            try {
+                game.writeCheckpoint();
+            } finally {
+                running = false;
+            }
+        }
+    }
+
+    private void play(boolean resume) {
+        try {
+            RoundResult outcome = resume ? game.resumeRound() : game.playHeadlessRound();
+            synchronized (result) {
+                result.record(outcome);
+            }
+        } catch (GameException e) {
+            synchronized (result) {
+                result.recordError();
+            }
+        }
+    }
+
+    public void close() {
+        running = false;
+        if (future != null) future.cancel(true);
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public SimulationResult snapshot() {
+        synchronized (result) {
+            return new SimulationResult().merge(result);
+        }
+    }
+}
\ No newline at end of file
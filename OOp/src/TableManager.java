@@ -0,0 +1,106 @@
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Тисячі незалежних столів, кожен на власному віртуальному потоці
+public class TableManager implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Integer, Table> tables = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private volatile GameEventBus eventBus;
+    private volatile GameMetrics metrics;
+    private volatile RuleSet rules = RuleSet.DEFAULT;
+    private volatile CheckpointStore checkpoints;
+
+    // Шина підключається до столу ще до першого раунду
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    // Спільні метрики для всіх столів, відкритих після виклику
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Правила для всіх столів, відкритих після виклику
+    public void setRules(RuleSet rules) {
+        this.rules = rules;
+    }
+
+    // Контрольні точки для всіх столів, відкритих після виклику
+    public void setCheckpointStore(CheckpointStore checkpoints) {
+        this.checkpoints = checkpoints;
+    }
+
+    public Table openTable(Deck deck, MoveStrategy playerStrategy) {
+        return openTable(deck, playerStrategy, 0);
+    }
+
+    // maxRounds <= 0 - стіл грає, доки його не закриють
+    public Table openTable(Deck deck, MoveStrategy playerStrategy, long maxRounds) {
+        return start(new Table(nextId.getAndIncrement(), deck, playerStrategy, rules, maxRounds));
+    }
+
+    // Стіл зі знімка зберігає свій номер; нові столи отримують номери після нього
+    public Table restoreTable(TableSnapshot snapshot, Deck deck, MoveStrategy playerStrategy, long maxRounds) {
+        reserveTableId(snapshot.getTableId());
+        return start(new Table(snapshot, deck, playerStrategy, rules, maxRounds));
+    }
+
+    // Номер уже зайнятий (наприклад, столом зі знімка, що дограв свої раунди)
+    public void reserveTableId(int id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    private Table start(Table table) {
+        if (eventBus != null) table.setEventBus(eventBus);
+        if (metrics != null) table.setMetrics(metrics);
+        if (checkpoints != null) table.setCheckpointStore(checkpoints);
+        tables.put(table.getId(), table);
+        table.attach(executor.submit(table));
+        return table;
+    }
+
+    public Table getTable(int id) {
+        return tables.get(id);
+    }
+
+    public Collection<Table> getTables() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    public int tableCount() {
+        return tables.size();
+    }
+
+    public void closeTable(int id) {
+        Table table = tables.remove(id);
+        if (table != null) table.close();
+    }
+
+    public SimulationResult totals() {
+        SimulationResult total = new SimulationResult();
+        for (Table table : tables.values()) {
+            total.merge(table.snapshot());
+        }
+        return total;
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public void close() {
+        for (Table table : tables.values()) {
+            table.close();
+        }
+        executor.shutdownNow();
+    }
+}
\ No newline at end of file
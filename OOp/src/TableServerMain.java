@@ -0,0 +1,79 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+public class TableServerMain {
+    // Аргументи: [столи] [раунди на стіл] [verbose] [journal=<тека>] [metrics=<файл>] [rules=<файл>] [cache=<тека>]
+    //             [checkpoint=<файл>] - столи з файлу відновлюються, а далі пишуть туди контрольні точки
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int tableCount = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long roundsPerTable = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        boolean verbose = false;
+        Path journalDir = null;
+        Path metricsFile = null;
+        Path checkpointFile = null;
+        RuleSet rules = RuleSet.DEFAULT;
+        StrategyCache cache = new StrategyCache();
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("verbose")) verbose = true;
+            else if (args[i].startsWith("journal=")) journalDir = Path.of(args[i].substring("journal=".length()));
+            else if (args[i].startsWith("metrics=")) metricsFile = Path.of(args[i].substring("metrics=".length()));
+            else if (args[i].startsWith("rules=")) rules = RuleSet.load(Path.of(args[i].substring("rules=".length())));
+            else if (args[i].startsWith("checkpoint=")) checkpointFile = Path.of(args[i].substring("checkpoint=".length()));
+            else if (args[i].startsWith("cache=")) cache = new StrategyCache(Path.of(args[i].substring("cache=".length())));
+        }
+
+        CardFactory factory = new SimpleCardFactory();
+        BasicStrategy strategy = cache.strategy(rules);
+
+        // Журнал столів друкується фоновим потоком шини, а не потоками столів
+        GameEventBus eventBus = new GameEventBus();
+        if (verbose) eventBus.addObserver(new ConsoleLogger());
+
+        GameMetrics metrics = new GameMetrics();
+        long startTime = System.nanoTime();
+        MetricsReporter reporter = metricsFile != null ? new MetricsReporter(metrics, metricsFile, 1000) : null;
+        try (reporter;
+             RoundJournal journal = journalDir != null ? new RoundJournal(journalDir) : null;
+             CheckpointStore checkpoints = checkpointFile != null
+                     ? new CheckpointStore(checkpointFile, rules.decks() * CardCode.COUNT, 100) : null;
+             eventBus;
+             TableManager manager = new TableManager()) {
+            if (journal != null) eventBus.addEventObserver(journal);
+            manager.setEventBus(eventBus);
+            manager.setMetrics(metrics);
+            manager.setRules(rules);
+            manager.setCheckpointStore(checkpoints);
+            int restored = 0;
+            if (checkpoints != null) {
+                for (TableSnapshot snapshot : checkpoints.restored()) {
+                    Deck deck = Deck.create(factory, rules);
+                    if (snapshot.getDeckSize() != deck.size()) {
+                        System.err.println("Стіл " + snapshot.getTableId() + " мав іншу кількість колод - пропущено");
+                        continue;
+                    }
+                    restored++;
+                    // Стіл дограє лише раунди, яких не встиг зіграти до зупинки
+                    long remaining = roundsPerTable - snapshot.getRounds();
+                    if (roundsPerTable > 0 && remaining <= 0) {
+                        manager.reserveTableId(snapshot.getTableId());
+                        continue;
+                    }
+                    manager.restoreTable(snapshot, deck, strategy, roundsPerTable > 0 ? remaining : roundsPerTable);
+                }
+                System.out.println("Відновлено столів: " + restored + " за "
+                        + (System.nanoTime() - startTime) / 1_000_000 + " мс");
+            }
+            for (int i = restored; i < tableCount; i++) {
+                manager.openTable(Deck.create(factory, rules), strategy, roundsPerTable);
+            }
+            manager.awaitTermination(1, TimeUnit.HOURS);
+            eventBus.flush();
+
+            long elapsedMs = (System.nanoTime() - startTime) / 1_000_000;
+            System.out.println("--- СТОЛИ: " + manager.tableCount() + " ---");
+            System.out.println(manager.totals());
+            System.out.println("Час: " + elapsedMs + " мс");
+        }
+    }
+}
\ No newline at end of file
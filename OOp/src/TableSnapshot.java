@@ -0,0 +1,203 @@
+import java.nio.ByteBuffer;
+
+// Повний стан стола в компактному двійковому вигляді: порядок карт у колоді, руки,
+// чий хід, страховка і банкрол гравця. Знімок роблять лише в безпечних точках потоку стола:
+// між раундами або перед рішенням гравця (GameManager.snapshot, CheckpointStore)
+//
+// Формат: i32 стіл, i64 раунд, i8 рука на ході (-1 - між раундами), u8 прапорці,
+// u16 розмір колоди, u16 курсор; u8 кількість рук гравця і для кожної u8 прапорці руки,
+// u8 кількість карт, коди; рука дилера; шість i64 банкролу; наприкінці порядок карт.
+// Стан без порядку карт (writeState) можна зберігати окремо: порядок змінюється лише
+// при перемішуванні (CheckpointStore пише його тоді один раз)
+public final class TableSnapshot {
+    public static final int BETWEEN_ROUNDS = -1;
+    // Рука без перебору має не більше 21 карти, ще одна карта - перебір
+    private static final int MAX_HAND_CARDS = GameConfig.BLACKJACK_LIMIT + 1;
+    private static final int INSURED = 1;
+    private static final int DOUBLED = 1;
+    private static final int FROM_SPLIT = 2;
+    private static final int SURRENDERED = 4;
+
+    private final int tableId;
+    private final long roundId;
+    private final int turnHand;
+    private final boolean insured;
+    private final byte[] deckOrder;
+    private final int deckCursor;
+    private final byte[][] playerHands;
+    private final byte[] handFlags;
+    private final byte[] dealerHand;
+    private final long[] bankroll;
+
+    private TableSnapshot(int tableId, long roundId, int turnHand, boolean insured, byte[] deckOrder, int deckCursor,
+                          byte[][] playerHands, byte[] handFlags, byte[] dealerHand, long[] bankroll) {
+        this.tableId = tableId;
+        this.roundId = roundId;
+        this.turnHand = turnHand;
+        this.insured = insured;
+        this.deckOrder = deckOrder;
+        this.deckCursor = deckCursor;
+        this.playerHands = playerHands;
+        this.handFlags = handFlags;
+        this.dealerHand = dealerHand;
+        this.bankroll = bankroll;
+    }
+
+    // Найбільший розмір знімка стола з колодою на deckSize карт
+    public static int maxSize(int deckSize) {
+        return maxStateSize() + deckSize;
+    }
+
+    // Найбільший розмір стану без порядку карт
+    public static int maxStateSize() {
+        return 4 + 8 + 1 + 1 + 2 + 2
+                + 1 + GameConfig.MAX_HANDS * (2 + MAX_HAND_CARDS)
+                + 1 + MAX_HAND_CARDS
+                + 6 * 8;
+    }
+
+    public static TableSnapshot of(GameManager game) {
+        ByteBuffer buffer = ByteBuffer.allocate(maxSize(game.getDeck().size()));
+        write(game, buffer);
+        return read(buffer.flip());
+    }
+
+    // Кодує стан стола напряму з гри, без проміжних об'єктів
+    static void write(GameManager game, ByteBuffer out) {
+        writeState(game, out);
+        out.put(game.getDeck().order());
+    }
+
+    // Усе, крім порядку карт: курсор, руки, банкрол
+    static void writeState(GameManager game, ByteBuffer out) {
+        Deck deck = game.getDeck();
+        out.putInt(game.getTableId());
+        out.putLong(game.getRoundId());
+        out.put((byte) game.getTurnHand());
+        out.put((byte) (game.isInsured() ? INSURED : 0));
+        out.putShort((short) deck.size());
+        out.putShort((short) deck.cursor());
+
+        Participant player = game.getPlayer();
+        out.put((byte) player.getHandCount());
+        for (int i = 0; i < player.getHandCount(); i++) {
+            Hand hand = player.getHand(i);
+            out.put((byte) ((hand.isDoubled() ? DOUBLED : 0) | (hand.isFromSplit() ? FROM_SPLIT : 0)
+                    | (hand.isSurrendered() ? SURRENDERED : 0)));
+            writeCards(hand, out);
+        }
+        writeCards(game.getDealer().getHand(), out);
+
+        Bankroll bankroll = player.getBankroll();
+        out.putLong(bankroll.getInitialBalance());
+        out.putLong(bankroll.getBalance());
+        out.putLong(bankroll.getBet());
+        out.putLong(bankroll.getLowestBalance());
+        out.putLong(bankroll.getRounds());
+        out.putLong(bankroll.getWagered());
+    }
+
+    private static void writeCards(Hand hand, ByteBuffer out) {
+        out.put((byte) hand.size());
+        for (int i = 0; i < hand.size(); i++) {
+            ICard card = hand.getCards().get(i);
+            out.put((byte) CardCode.encode(card.getSuit(), card.getRank()));
+        }
+    }
+
+    public static TableSnapshot read(ByteBuffer in) {
+        return read(in, in);
+    }
+
+    // Стан із state, порядок карт - з order (той самий буфер, якщо знімок повний)
+    static TableSnapshot read(ByteBuffer state, ByteBuffer order) {
+        ByteBuffer in = state;
+        int tableId = in.getInt();
+        long roundId = in.getLong();
+        int turnHand = in.get();
+        boolean insured = (in.get() & INSURED) != 0;
+        byte[] deckOrder = new byte[Short.toUnsignedInt(in.getShort())];
+        int deckCursor = Short.toUnsignedInt(in.getShort());
+
+        int handCount = in.get();
+        if (handCount < 1 || handCount > GameConfig.MAX_HANDS || turnHand >= handCount) {
+            throw new IllegalArgumentException("Пошкоджений знімок стола " + tableId);
+        }
+        byte[][] playerHands = new byte[handCount][];
+        byte[] handFlags = new byte[handCount];
+        for (int i = 0; i < handCount; i++) {
+            handFlags[i] = in.get();
+            playerHands[i] = readCards(in);
+        }
+        byte[] dealerHand = readCards(in);
+
+        long[] bankroll = new long[6];
+        for (int i = 0; i < bankroll.length; i++) bankroll[i] = in.getLong();
+        order.get(deckOrder);
+        return new TableSnapshot(tableId, roundId, turnHand, insured, deckOrder, deckCursor,
+                playerHands, handFlags, dealerHand, bankroll);
+    }
+
+    private static byte[] readCards(ByteBuffer in) {
+        byte[] codes = new byte[Byte.toUnsignedInt(in.get())];
+        in.get(codes);
+        return codes;
+    }
+
+    // Переносить стан у гру з тим самим розміром колоди
+    void applyTo(GameManager game) {
+        Deck deck = game.getDeck();
+        deck.restore(deckOrder, deckCursor);
+
+        Participant player = game.getPlayer();
+        player.restoreHands(playerHands.length);
+        for (int i = 0; i < playerHands.length; i++) {
+            Hand hand = player.getHand(i);
+            for (byte code : playerHands[i]) hand.addCard(deck.cardFor(code));
+            if ((handFlags[i] & DOUBLED) != 0) hand.markDoubled();
+            if ((handFlags[i] & FROM_SPLIT) != 0) hand.markSplit();
+            if ((handFlags[i] & SURRENDERED) != 0) hand.markSurrendered();
+        }
+        Participant dealer = game.getDealer();
+        dealer.resetHands();
+        for (byte code : dealerHand) dealer.getHand().addCard(deck.cardFor(code));
+        // Посеред раунду друга карта дилера ще закрита для лічильника
+        if (isRoundInProgress() && dealerHand.length > 1) deck.hideDealt(dealerHand[1]);
+
+        player.setBankroll(Bankroll.restore(bankroll[0], bankroll[1], bankroll[2], bankroll[3], bankroll[4], bankroll[5]));
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    public long getRoundId() {
+        return roundId;
+    }
+
+    // Номер руки, що чекає на рішення, або BETWEEN_ROUNDS
+    public int getTurnHand() {
+        return turnHand;
+    }
+
+    public boolean isInsured() {
+        return insured;
+    }
+
+    public boolean isRoundInProgress() {
+        return turnHand != BETWEEN_ROUNDS;
+    }
+
+    public int getDeckSize() {
+        return deckOrder.length;
+    }
+
+    public long getBalance() {
+        return bankroll[1];
+    }
+
+    // Раунди, вже розраховані до знімка (незавершений раунд сюди не входить)
+    public long getRounds() {
+        return bankroll[4];
+    }
+}
\ No newline at end of file
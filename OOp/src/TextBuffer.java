@@ -0,0 +1,102 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Багаторазовий рядок у UTF-8: повідомлення складається з готових фрагментів байтів
+// і цифр без проміжних String. Не потокобезпечний - один буфер на стіл
+public final class TextBuffer {
+    private byte[] bytes;
+    private int length;
+
+    public TextBuffer() {
+        this(128);
+    }
+
+    public TextBuffer(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    public static byte[] utf8(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public TextBuffer clear() {
+        length = 0;
+        return this;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public TextBuffer append(byte[] fragment) {
+        ensure(fragment.length);
+        System.arraycopy(fragment, 0, bytes, length, fragment.length);
+        length += fragment.length;
+        return this;
+    }
+
+    public TextBuffer append(char ascii) {
+        ensure(1);
+        bytes[length++] = (byte) ascii;
+        return this;
+    }
+
+    public TextBuffer append(long value) {
+        if (value < 0) {
+            append('-');
+            // Long.MIN_VALUE не має додатної пари, тож цифри рахуються від'ємними
+            return appendDigits(value);
+        }
+        return appendDigits(-value);
+    }
+
+    // Сума в копійках у тому ж вигляді, що й Bankroll.format
+    public TextBuffer appendMoney(long amount) {
+        if (amount < 0) append('-');
+        long abs = Math.abs(amount);
+        long fraction = abs % GameConfig.MONEY_SCALE;
+        append(abs / GameConfig.MONEY_SCALE).append('.');
+        if (fraction < 10) append('0');
+        return append(fraction);
+    }
+
+    // Для рідкісного довільного тексту; кодування створює тимчасовий масив
+    public TextBuffer append(String text) {
+        return append(utf8(text));
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    // PrintStream не кидає IOException, а запам'ятовує помилку (checkError)
+    public void writeTo(PrintStream out) {
+        out.write(bytes, 0, length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private TextBuffer appendDigits(long negative) {
+        int digits = 1;
+        for (long rest = negative / 10; rest != 0; rest /= 10) digits++;
+        ensure(digits);
+        for (int i = length + digits - 1; i >= length; i--) {
+            bytes[i] = (byte) ('0' - negative % 10);
+            negative /= 10;
+        }
+        length += digits;
+        return this;
+    }
+
+    private void ensure(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+}
\ No newline at end of file
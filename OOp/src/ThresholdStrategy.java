@@ -0,0 +1,13 @@
+// Проста стратегія "як дилер": брати карту, доки очок менше за поріг
+public class ThresholdStrategy implements MoveStrategy {
+    private final int standOn;
+
+    public ThresholdStrategy(int standOn) {
+        this.standOn = standOn;
+    }
+
+    @Override
+    public boolean shouldHit(Hand hand, ICard dealerVisibleCard) {
+        return hand.calculateScore() < standOn;
+    }
+}
\ No newline at end of file
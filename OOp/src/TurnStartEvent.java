@@ -0,0 +1,6 @@
+public record TurnStartEvent(int tableId, long roundId, int participant, int hand, int score) implements GameEvent {
+    @Override
+    public void deliver(GameEventObserver observer) {
+        observer.onTurnStart(this);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.charset.StandardCharsets;
+
+// Двійковий протокол мережевого столу. Кадр: u16 довжина (тип + дані), u8 тип, дані;
+// числа big-endian, як пише DataOutputStream. Хід гри передається дельтами по 5 байтів
+// замість текстових описів рук
+public final class WireProtocol {
+    public static final int VERSION = 1;
+
+    // Клієнт -> сервер
+    public static final int JOIN = 0x01;             // u8 версія
+    public static final int BET = 0x02;              // i64 ставка в копійках; починає раунд або отримує ERROR
+    public static final int ACTION = 0x03;           // u8 Action.ordinal()
+    public static final int INSURANCE = 0x04;        // u8 1 - взяти страховку
+    public static final int LEAVE = 0x05;
+
+    // Сервер -> клієнт
+    public static final int WELCOME = 0x41;          // i32 місце, i64 баланс
+    public static final int PROMPT = 0x42;           // u8 рука, u8 маска дій, u8 очки, u8 м'яка
+    public static final int INSURANCE_PROMPT = 0x43;
+    public static final int DELTA = 0x44;            // u8 вид, u8 учасник, u8 рука, u8 значення, u8 очки
+    public static final int ROUND_END = 0x45;        // i64 виграш, i64 баланс
+    public static final int ERROR = 0x4F;            // рядок writeUTF
+
+    // Види дельт; "значення" - код карти, якщо не сказано інше
+    public static final int DEAL = 0;
+    public static final int TURN = 1;
+    public static final int HIT = 2;
+    public static final int STAND = 3;
+    public static final int BUST = 4;
+    public static final int BLACKJACK = 5;
+    public static final int DOUBLE = 6;
+    public static final int SPLIT = 7;               // значення - номер нової руки
+    public static final int SURRENDER = 8;
+    public static final int INSURANCE_RESULT = 9;    // значення 1 - страховку виграно
+    public static final int OUTCOME = 10;            // значення - RoundOutcome.ordinal()
+    public static final int REVEAL = 11;             // закрита карта дилера
+
+    // Немає карти чи очок: закрита карта дилера до його ходу
+    public static final int UNKNOWN = 0xFF;
+
+    private WireProtocol() {
+    }
+
+    public static int actionMask(Action action) {
+        return 1 << action.ordinal();
+    }
+
+    public static void writeHeader(DataOutputStream out, int type, int payloadLength) throws IOException {
+        out.writeShort(payloadLength + 1);
+        out.writeByte(type);
+    }
+
+    public static void writeDelta(DataOutputStream out, int kind, int participant, int hand,
+                                  int value, int score) throws IOException {
+        writeHeader(out, DELTA, 5);
+        out.writeByte(kind);
+        out.writeByte(participant);
+        out.writeByte(hand);
+        out.writeByte(value);
+        out.writeByte(score);
+    }
+
+    public static void writeError(DataOutputStream out, String message) throws IOException {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        writeHeader(out, ERROR, bytes.length + 2);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    // Повертає тип кадру; дані лишаються в потоці. maxPayload захищає від чужого трафіку
+    public static int readHeader(DataInputStream in, int maxPayload) throws IOException {
+        int length = in.readUnsignedShort();
+        if (length < 1 || length - 1 > maxPayload) {
+            throw new ProtocolException("Неприпустима довжина кадру: " + length);
+        }
+        return in.readUnsignedByte() | (length - 1) << 8;
+    }
+
+    public static int type(int header) {
+        return header & 0xFF;
+    }
+
+    public static int payloadLength(int header) {
+        return header >>> 8;
+    }
+
+    public static void expectLength(int header, int length) throws ProtocolException {
+        if (payloadLength(header) != length) {
+            throw new ProtocolException("Кадр 0x" + Integer.toHexString(type(header))
+                    + " має містити " + length + " байтів даних");
+        }
+    }
+}
\ No newline at end of file